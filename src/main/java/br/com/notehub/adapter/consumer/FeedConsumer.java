@@ -0,0 +1,99 @@
+package br.com.notehub.adapter.consumer;
+
+import br.com.notehub.adapter.consumer.dto.OutboxDTO;
+import br.com.notehub.domain.comment.events.NoteCommentedEvent;
+import br.com.notehub.domain.feed.FeedService;
+import br.com.notehub.domain.flame.events.NoteFlamedEvent;
+import br.com.notehub.domain.follow.events.UserFollowedEvent;
+import br.com.notehub.domain.follow.events.UserUnfollowedEvent;
+import br.com.notehub.domain.note.events.NoteCreatedEvent;
+import br.com.notehub.domain.note.events.NoteHiddenEvent;
+import br.com.notehub.domain.outbox.ProcessedEvent;
+import br.com.notehub.domain.outbox.ProcessedEventRepository;
+import br.com.notehub.domain.user.events.ProfilePrivacyChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+
+@Component
+@RequiredArgsConstructor
+public class FeedConsumer {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedConsumer.class);
+
+    private final FeedService feeder;
+    private final ProcessedEventRepository processedRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper mapper;
+
+    private static class AlreadyProcessedException extends RuntimeException {
+    }
+
+    private void claim(OutboxDTO dto) {
+        try {
+            processedRepository.saveAndFlush(new ProcessedEvent(dto.id()));
+        } catch (DataIntegrityViolationException exception) {
+            throw new AlreadyProcessedException();
+        }
+    }
+
+    private <T> T read(OutboxDTO dto, Class<T> type) {
+        try {
+            return mapper.readValue(dto.payload(), type);
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void dispatch(OutboxDTO dto) {
+        switch (dto.type()) {
+            case "ProfilePrivacyChangedEvent" -> {
+                ProfilePrivacyChangedEvent event = read(dto, ProfilePrivacyChangedEvent.class);
+                feeder.onProfilePrivacyChanged(event.userId(), event.profilePrivate());
+            }
+            case "UserFollowedEvent" -> {
+                UserFollowedEvent event = read(dto, UserFollowedEvent.class);
+                feeder.onUserFollowed(event.followerId(), event.followingId());
+            }
+            case "UserUnfollowedEvent" -> {
+                UserUnfollowedEvent event = read(dto, UserUnfollowedEvent.class);
+                feeder.onUserUnfollowed(event.followerId(), event.followingId());
+            }
+            case "NoteCreatedEvent" -> feeder.onNoteCreated(read(dto, NoteCreatedEvent.class).noteId());
+            case "NoteHiddenEvent" -> feeder.onNoteHidden(read(dto, NoteHiddenEvent.class).noteId());
+            case "NoteFlamedEvent" -> feeder.onNoteFlamed(read(dto, NoteFlamedEvent.class).flameId());
+            case "NoteCommentedEvent" -> feeder.onNoteCommented(read(dto, NoteCommentedEvent.class).commentId());
+            default -> logger.warn("Evento {} de tipo desconhecido: {}", dto.id(), dto.type());
+        }
+    }
+
+    @RabbitListener(queues = "${broker.queue.feed.name}", concurrency = "${broker.queue.feed.concurrency}", containerFactory = "feedListenerContainerFactory")
+    public void feedQueueListenner(@Payload OutboxDTO dto) {
+        if (processedRepository.existsById(dto.id())) return;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                claim(dto);
+                dispatch(dto);
+            });
+        } catch (AlreadyProcessedException exception) {
+            logger.info("Evento {} ignorado, já processado por outro consumidor.", dto.id());
+        } catch (EntityNotFoundException exception) {
+            logger.info("Evento {} ignorado, entidade não existe mais.", dto.id());
+            try {
+                claim(dto);
+            } catch (AlreadyProcessedException ignored) {
+            }
+        }
+    }
+
+}
@@ -0,0 +1,21 @@
+package br.com.notehub.adapter.consumer;
+
+import br.com.notehub.adapter.consumer.dto.StreamDTO;
+import br.com.notehub.domain.stream.StreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class StreamConsumer {
+
+    private final StreamService streamer;
+
+    @RabbitListener(queues = "#{streamQueue.name}")
+    public void streamQueueListenner(@Payload StreamDTO dto) {
+        streamer.deliver(dto.id(), dto.userIds(), dto.type(), dto.data());
+    }
+
+}
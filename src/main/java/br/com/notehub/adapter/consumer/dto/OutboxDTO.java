@@ -0,0 +1,10 @@
+package br.com.notehub.adapter.consumer.dto;
+
+import java.util.UUID;
+
+public record OutboxDTO(
+        UUID id,
+        String type,
+        String payload
+) {
+}
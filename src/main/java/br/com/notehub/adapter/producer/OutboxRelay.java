@@ -0,0 +1,66 @@
+package br.com.notehub.adapter.producer;
+
+import br.com.notehub.adapter.producer.dto.OutboxDTO;
+import br.com.notehub.domain.outbox.OutboxEvent;
+import br.com.notehub.domain.outbox.OutboxRepository;
+import br.com.notehub.domain.outbox.ProcessedEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    @Value("${broker.exchange.feed.name}")
+    private String feedExchange;
+
+    @Value("${outbox.relay.batch-size}")
+    private int batchSize;
+
+    @Value("${outbox.retention-days}")
+    private long retentionDays;
+
+    private final OutboxRepository repository;
+    private final ProcessedEventRepository processedRepository;
+    private final RabbitTemplate rabbitTemplate;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms}")
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void relay() {
+        List<OutboxEvent> pending = repository.findPending(PageRequest.of(0, batchSize));
+        Instant now = Instant.now();
+        for (OutboxEvent event : pending) {
+            try {
+                rabbitTemplate.convertAndSend(feedExchange, "feed." + event.getType(), new OutboxDTO(event));
+            } catch (AmqpException exception) {
+                logger.warn("Falha ao publicar evento {} do outbox: {}", event.getId(), exception.getMessage());
+                return;
+            }
+            event.setPublishedAt(now);
+        }
+    }
+
+    @Scheduled(cron = "0 0 0 * * ?")
+    @Transactional
+    public void clean() {
+        Instant before = Instant.now().minus(retentionDays, ChronoUnit.DAYS);
+        repository.deletePublishedBefore(before);
+        processedRepository.deleteProcessedBefore(before);
+    }
+
+}
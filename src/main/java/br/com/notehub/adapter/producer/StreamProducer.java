@@ -0,0 +1,22 @@
+package br.com.notehub.adapter.producer;
+
+import br.com.notehub.adapter.producer.dto.StreamDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class StreamProducer {
+
+    @Value("${broker.exchange.stream.name}")
+    private String streamExchange;
+
+    private final RabbitTemplate rabbitTemplate;
+
+    public void publishStreamMessage(StreamDTO message) {
+        rabbitTemplate.convertAndSend(streamExchange, "", message);
+    }
+
+}
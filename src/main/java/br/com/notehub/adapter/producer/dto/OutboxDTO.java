@@ -0,0 +1,15 @@
+package br.com.notehub.adapter.producer.dto;
+
+import br.com.notehub.domain.outbox.OutboxEvent;
+
+import java.util.UUID;
+
+public record OutboxDTO(
+        UUID id,
+        String type,
+        String payload
+) {
+    public OutboxDTO(OutboxEvent event) {
+        this(event.getId(), event.getType(), event.getPayload());
+    }
+}
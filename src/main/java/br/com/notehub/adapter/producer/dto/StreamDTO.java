@@ -0,0 +1,7 @@
+package br.com.notehub.adapter.producer.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record StreamDTO(UUID id, List<UUID> userIds, String type, String data) {
+}
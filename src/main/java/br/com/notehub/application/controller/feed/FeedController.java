@@ -1,6 +1,7 @@
 package br.com.notehub.application.controller.feed;
 
 import br.com.notehub.application.dto.response.feed.FeedEventRES;
+import br.com.notehub.application.dto.response.page.CursorRES;
 import br.com.notehub.application.dto.response.page.PageRES;
 import br.com.notehub.domain.feed.FeedEvent;
 import br.com.notehub.domain.feed.FeedService;
@@ -41,11 +42,11 @@ public class FeedController {
 
     @Operation(
             summary = "Get authenticated user's feed",
-            description = "Retrieves a paginated list of feed events for the authenticated user."
+            description = "Retrieves a paginated list of feed events for the authenticated user. When the user follows high-reach actors, only the first page is served and 'totalElements' only tells whether more events exist; use '/feed/scroll' for the following pages."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Feed retrieved successfully."),
-            @ApiResponse(responseCode = "400", description = "Invalid pageable criteria or unknown event type.", content = @Content(examples = {})),
+            @ApiResponse(responseCode = "400", description = "Invalid pageable criteria, unknown event type or page beyond the first for high-reach feeds.", content = @Content(examples = {})),
             @ApiResponse(responseCode = "403", description = "Access token is invalid or missing.", content = @Content(examples = {})),
             @ApiResponse(responseCode = "500", description = "Internal server error.", content = @Content(examples = {}))
     })
@@ -60,4 +61,26 @@ public class FeedController {
         return ResponseEntity.status(HttpStatus.OK).body(feed);
     }
 
+    @Operation(
+            summary = "Scroll authenticated user's feed",
+            description = "Retrieves feed events older than the given cursor, without counting the total. Pass the returned 'next' value as 'cursor' to get the following page."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Feed retrieved successfully."),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or unknown event type.", content = @Content(examples = {})),
+            @ApiResponse(responseCode = "403", description = "Access token is invalid or missing.", content = @Content(examples = {})),
+            @ApiResponse(responseCode = "500", description = "Internal server error.", content = @Content(examples = {}))
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorRES<FeedEventRES>> getFeedByCursor(
+            @Parameter(hidden = true) @RequestHeader("Authorization") String accessToken,
+            @RequestParam(required = false) List<FeedEvent> events,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "25") int size
+    ) {
+        UUID idFromToken = getSubject(accessToken);
+        CursorRES<FeedEventRES> feed = service.getFeedByCursor(cursor, size, idFromToken, events);
+        return ResponseEntity.status(HttpStatus.OK).body(feed);
+    }
+
 }
\ No newline at end of file
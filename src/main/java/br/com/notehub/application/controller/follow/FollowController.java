@@ -1,5 +1,6 @@
 package br.com.notehub.application.controller.follow;
 
+import br.com.notehub.application.dto.response.page.CursorRES;
 import br.com.notehub.application.dto.response.page.PageRES;
 import br.com.notehub.application.dto.response.user.DetailUserRES;
 import br.com.notehub.domain.follow.FollowService;
@@ -125,6 +126,54 @@ public class FollowController {
         return ResponseEntity.status(HttpStatus.OK).body(new PageRES<>(page));
     }
 
+    @Operation(
+            summary = "Scroll users that the specified user is following.",
+            description = "Retrieves users the specified user started following before the given cursor, most recent first, without counting the total. Pass the returned 'next' value as 'cursor' to get the following page."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Following users retrieved successfully."),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor.", content = @Content(examples = {})),
+            @ApiResponse(responseCode = "403", description = "Access denied due to invalid token or insufficient permissions.", content = @Content(examples = {})),
+            @ApiResponse(responseCode = "404", description = "User not found.", content = @Content(examples = {})),
+            @ApiResponse(responseCode = "500", description = "Internal server error.", content = @Content(examples = {}))
+    })
+    @GetMapping("/{username}/following/scroll")
+    public ResponseEntity<CursorRES<DetailUserRES>> scrollFollowing(
+            @Parameter(hidden = true) @RequestHeader(required = false, value = "Authorization") String accessToken,
+            @PathVariable("username") String username,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "25") int size
+    ) {
+        UUID idFromToken = getSubject(accessToken);
+        CursorRES<DetailUserRES> page = service.scrollUserFollowing(cursor, size, q, idFromToken, username);
+        return ResponseEntity.status(HttpStatus.OK).body(page);
+    }
+
+    @Operation(
+            summary = "Scroll users that are following the specified user.",
+            description = "Retrieves users that started following the specified user before the given cursor, most recent first, without counting the total. Pass the returned 'next' value as 'cursor' to get the following page."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Followers retrieved successfully."),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor.", content = @Content(examples = {})),
+            @ApiResponse(responseCode = "403", description = "Access denied due to invalid token or insufficient permissions.", content = @Content(examples = {})),
+            @ApiResponse(responseCode = "404", description = "User not found.", content = @Content(examples = {})),
+            @ApiResponse(responseCode = "500", description = "Internal server error.", content = @Content(examples = {}))
+    })
+    @GetMapping("/{username}/followers/scroll")
+    public ResponseEntity<CursorRES<DetailUserRES>> scrollFollowers(
+            @Parameter(hidden = true) @RequestHeader(required = false, value = "Authorization") String accessToken,
+            @PathVariable("username") String username,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "25") int size
+    ) {
+        UUID idFromToken = getSubject(accessToken);
+        CursorRES<DetailUserRES> page = service.scrollUserFollowers(cursor, size, q, idFromToken, username);
+        return ResponseEntity.status(HttpStatus.OK).body(page);
+    }
+
     @Operation(
             summary = "Get user mutual connections",
             description = """
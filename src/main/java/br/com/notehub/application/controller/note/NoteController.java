@@ -3,8 +3,11 @@ package br.com.notehub.application.controller.note;
 import br.com.notehub.application.dto.request.note.*;
 import br.com.notehub.application.dto.response.note.DetailNoteRES;
 import br.com.notehub.application.dto.response.note.LowDetailNoteRES;
+import br.com.notehub.application.dto.response.note.NoteSnippetRES;
 import br.com.notehub.application.dto.response.page.PageRES;
+import br.com.notehub.application.dto.response.tag.TagStatsRES;
 import br.com.notehub.domain.note.NoteService;
+import br.com.notehub.domain.tag.TagService;
 import com.auth0.jwt.JWT;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,9 +23,12 @@ import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -35,6 +41,7 @@ import java.util.UUID;
 public class NoteController {
 
     private final NoteService service;
+    private final TagService tagService;
 
     private UUID getSubject(String bearerToken) {
         if (bearerToken == null) return null;
@@ -219,6 +226,45 @@ public class NoteController {
         return ResponseEntity.status(HttpStatus.OK).body(tags);
     }
 
+    @Operation(summary = "Get trending tags", description = "Retrieves the most used tags ranked by a time-decayed usage score.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tags retrieved successfully."),
+            @ApiResponse(responseCode = "500", description = "Internal server error.", content = @Content(examples = {}))
+    })
+    @GetMapping("/tags/top")
+    public ResponseEntity<List<TagStatsRES>> getTopTags(@RequestParam(defaultValue = "20") int limit) {
+        List<TagStatsRES> tags = tagService.getTopTags(limit);
+        return ResponseEntity.status(HttpStatus.OK).body(tags);
+    }
+
+    @Operation(summary = "Get tags by prefix", description = "Retrieves tags starting with the given prefix ranked by usage score.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tags retrieved successfully."),
+            @ApiResponse(responseCode = "500", description = "Internal server error.", content = @Content(examples = {}))
+    })
+    @GetMapping("/tags/prefix")
+    public ResponseEntity<List<TagStatsRES>> getTagsByPrefix(
+            @NotBlank @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        List<TagStatsRES> tags = tagService.getTagsByPrefix(q, limit);
+        return ResponseEntity.status(HttpStatus.OK).body(tags);
+    }
+
+    @Operation(summary = "Autocomplete tags", description = "Retrieves existing tag names starting with the given prefix ranked by number of public notes.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tags retrieved successfully."),
+            @ApiResponse(responseCode = "500", description = "Internal server error.", content = @Content(examples = {}))
+    })
+    @GetMapping("/tags/autocomplete")
+    public ResponseEntity<List<String>> autocompleteTags(
+            @NotBlank @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<String> tags = tagService.autocomplete(q, limit);
+        return ResponseEntity.status(HttpStatus.OK).body(tags);
+    }
+
     @Operation(summary = "Get all tags used by user", description = "Retrieves a paginated list of all used tags by user.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Used tags by user retrieved successfully."),
@@ -286,6 +332,39 @@ public class NoteController {
         return ResponseEntity.status(HttpStatus.OK).body(page);
     }
 
+    @Operation(summary = "Search for note snippets", description = "Searches notes by title or description and returns a bounded snippet around each match with highlight offsets.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search results retrieved successfully."),
+            @ApiResponse(responseCode = "400", description = "Invalid search criteria.", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error.", content = @Content(examples = {}))
+    })
+    @GetMapping("/search/snippets")
+    public ResponseEntity<PageRES<NoteSnippetRES>> searchPublicNoteSnippets(
+            @ParameterObject @PageableDefault(page = 0, size = 25, sort = {"flamesCount"}, direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(required = false) String q
+    ) {
+        PageRES<NoteSnippetRES> page = service.findPublicNoteSnippets(pageable, q);
+        return ResponseEntity.status(HttpStatus.OK).body(page);
+    }
+
+    @Operation(summary = "Search for user note snippets", description = "Searches user notes by title or tag and returns a bounded snippet around each match with highlight offsets.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search results retrieved successfully."),
+            @ApiResponse(responseCode = "400", description = "Invalid pageable criteria.", content = @Content(examples = {})),
+            @ApiResponse(responseCode = "403", description = "Invalid token.", content = @Content(examples = {})),
+            @ApiResponse(responseCode = "500", description = "Internal server error.", content = @Content(examples = {}))
+    })
+    @GetMapping("/private/search/snippets")
+    public ResponseEntity<PageRES<NoteSnippetRES>> searchPrivateNoteSnippets(
+            @Parameter(hidden = true) @RequestHeader("Authorization") String accessToken,
+            @ParameterObject @PageableDefault(page = 0, size = 10, sort = {"createdAt"}, direction = Sort.Direction.DESC) Pageable pageable,
+            @NotBlank @RequestParam String q
+    ) {
+        UUID idFromToken = getSubject(accessToken);
+        PageRES<NoteSnippetRES> page = service.findPrivateNoteSnippets(pageable, idFromToken, q);
+        return ResponseEntity.status(HttpStatus.OK).body(page);
+    }
+
     @Operation(summary = "Search for notes", description = "Searches notes by tag.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Search results retrieved successfully."),
@@ -353,6 +432,7 @@ public class NoteController {
     @Operation(summary = "Get a note details", description = "Retrieves detailed information about a note by their uuid.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Search results retrieved successfully."),
+            @ApiResponse(responseCode = "304", description = "Note not modified since the given ETag or date.", content = @Content(examples = {})),
             @ApiResponse(responseCode = "403", description = "Access denied.", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "404", description = "Note not found.", content = @Content(examples = {})),
             @ApiResponse(responseCode = "500", description = "Internal server error.", content = @Content(examples = {}))
@@ -360,10 +440,17 @@ public class NoteController {
     @GetMapping("/{id}")
     public ResponseEntity<DetailNoteRES> getPublicNote(
             @Parameter(hidden = true) @RequestHeader(required = false, value = "Authorization") String accessToken,
-            @PathVariable("id") UUID idFromPath
+            @PathVariable("id") UUID idFromPath,
+            @Parameter(hidden = true) ServletWebRequest request
     ) {
         UUID idFromToken = getSubject(accessToken);
-        DetailNoteRES note = service.getNote(idFromToken, idFromPath);
+        DetailNoteRES note = service.getNote(idFromToken, idFromPath, version -> {
+            boolean shared = !version.hidden() && !Boolean.TRUE.equals(version.authorPrivate());
+            CacheControl cacheControl = shared ? CacheControl.noCache().cachePublic() : CacheControl.noCache().cachePrivate();
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+            return request.checkNotModified(version.etag(), version.lastModified().toEpochMilli());
+        });
+        if (note == null) return null;
         return ResponseEntity.status(HttpStatus.OK).body(note);
     }
 
@@ -0,0 +1,58 @@
+package br.com.notehub.application.controller.stream;
+
+import br.com.notehub.domain.stream.StreamService;
+import com.auth0.jwt.JWT;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/stream")
+@SecurityRequirement(name = "bearer-key")
+@Tag(name = "Stream Controller", description = "Endpoint for receiving feed events and notifications in real time")
+@RequiredArgsConstructor
+public class StreamController {
+
+    private final StreamService service;
+
+    private UUID getSubject(String bearerToken) {
+        if (bearerToken == null) return null;
+        String idFromToken = JWT.decode(bearerToken.replace("Bearer ", "")).getSubject();
+        return UUID.fromString(idFromToken);
+    }
+
+    @Operation(
+            summary = "Subscribe to live events",
+            description = "Opens a text/event-stream with 'feed' and 'notification' events for the authenticated user. Reconnect with the 'Last-Event-ID' header to receive missed events; a 'resync' event means they are no longer available and the feed should be reloaded."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened successfully."),
+            @ApiResponse(responseCode = "403", description = "Access token is invalid or missing.", content = @Content(examples = {})),
+            @ApiResponse(responseCode = "500", description = "Internal server error.", content = @Content(examples = {}))
+    })
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(
+            @Parameter(hidden = true) @RequestHeader("Authorization") String accessToken,
+            @Parameter(hidden = true) @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        UUID idFromToken = getSubject(accessToken);
+        SseEmitter emitter = service.subscribe(idFromToken, lastEventId);
+        return ResponseEntity.status(HttpStatus.OK).header("X-Accel-Buffering", "no").body(emitter);
+    }
+
+}
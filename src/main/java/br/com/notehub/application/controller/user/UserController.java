@@ -10,6 +10,7 @@ import br.com.notehub.domain.user.Host;
 import br.com.notehub.domain.user.Subscription;
 import br.com.notehub.domain.user.User;
 import br.com.notehub.domain.user.UserService;
+import br.com.notehub.domain.user.UserVersion;
 import br.com.notehub.infra.exception.CustomExceptions;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.interfaces.DecodedJWT;
@@ -29,9 +30,12 @@ import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 import java.util.Objects;
@@ -344,13 +348,18 @@ public class UserController {
     @Operation(summary = "Get user details by username", description = "Retrieves detailed information about a user by their username.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User details retrieved successfully."),
+            @ApiResponse(responseCode = "304", description = "User not modified since the given ETag or date.", content = @Content(examples = {})),
             @ApiResponse(responseCode = "404", description = "User not found.", content = @Content(examples = {})),
             @ApiResponse(responseCode = "500", description = "Internal server error.", content = @Content(examples = {}))
     })
     @GetMapping("/{username}")
     public ResponseEntity<DetailUserRES> getUser(
-            @PathVariable("username") String username
+            @PathVariable("username") String username,
+            @Parameter(hidden = true) ServletWebRequest request
     ) {
+        UserVersion version = service.getUserVersion(username);
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePublic().getHeaderValue());
+        if (request.checkNotModified(version.etag(), version.updatedAt().toEpochMilli())) return null;
         User user = service.getUser(username);
         return ResponseEntity.status(HttpStatus.OK).body(new DetailUserRES(user));
     }
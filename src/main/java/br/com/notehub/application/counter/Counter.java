@@ -1,82 +1,80 @@
 package br.com.notehub.application.counter;
 
 import br.com.notehub.domain.comment.Comment;
-import br.com.notehub.domain.comment.CommentRepository;
 import br.com.notehub.domain.note.Note;
-import br.com.notehub.domain.note.NoteRepository;
 import br.com.notehub.domain.user.User;
-import br.com.notehub.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class Counter {
 
-    private final UserRepository userRepository;
-    private final NoteRepository noteRepository;
-    private final CommentRepository commentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final CounterBuffer buffer;
 
-    public void updateNotesCount(User user, boolean increment) {
-        int notesCount = user.getNotesCount();
-        if (increment) {
-            user.setNotesCount(notesCount + 1);
-        } else {
-            user.setNotesCount(notesCount - 1);
+    @Value("${counters.write-behind.enabled}")
+    private boolean writeBehind;
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
         }
-        userRepository.save(user);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
-    public void updateFollowersAndFollowingCount(User follower, User following, boolean increment) {
-        if (increment) {
-            follower.setFollowingCount(follower.getFollowingCount() + 1);
-            following.setFollowersCount(following.getFollowersCount() + 1);
-        } else {
-            follower.setFollowingCount(follower.getFollowingCount() - 1);
-            following.setFollowersCount(following.getFollowersCount() - 1);
+    private void add(CounterType type, UUID id, boolean increment) {
+        int delta = increment ? 1 : -1;
+        if (writeBehind) {
+            afterCommit(() -> buffer.add(type, id, delta));
+            return;
         }
-        userRepository.save(follower);
-        userRepository.save(following);
+        jdbcTemplate.update(type.sql(), type.args(delta, id, Timestamp.from(Instant.now())));
     }
 
-    public void decrementFollowerCount(User following) {
-        following.setFollowersCount(following.getFollowersCount() - 1);
-        userRepository.save(following);
+    public void updateNotesCount(User user, boolean increment) {
+        add(CounterType.USER_NOTES, user.getId(), increment);
     }
 
-    public void decrementFollowingCount(User follower) {
-        follower.setFollowingCount(follower.getFollowingCount() - 1);
-        userRepository.save(follower);
+    public void updateFollowersAndFollowingCount(User follower, User following, boolean increment) {
+        // Sempre na ordem dos ids, para que A segue B e B segue A ao mesmo tempo não travem as linhas em ordem inversa.
+        if (follower.getId().compareTo(following.getId()) < 0) {
+            add(CounterType.USER_FOLLOWING, follower.getId(), increment);
+            add(CounterType.USER_FOLLOWERS, following.getId(), increment);
+        } else {
+            add(CounterType.USER_FOLLOWERS, following.getId(), increment);
+            add(CounterType.USER_FOLLOWING, follower.getId(), increment);
+        }
     }
 
     public void updateCommentsCount(Note note, boolean increment) {
-        int commentsCount = note.getCommentsCount();
-        if (increment) {
-            note.setCommentsCount(commentsCount + 1);
-        } else {
-            note.setCommentsCount(commentsCount - 1);
-        }
-        noteRepository.save(note);
+        add(CounterType.NOTE_COMMENTS, note.getId(), increment);
     }
 
     public void updateFlamesCount(Note note, boolean increment) {
-        int flamesCount = note.getFlamesCount();
-        if (increment) {
-            note.setFlamesCount(flamesCount + 1);
-        } else {
-            note.setFlamesCount(flamesCount - 1);
-        }
-        noteRepository.save(note);
+        add(CounterType.NOTE_FLAMES, note.getId(), increment);
     }
 
     public void updateRepliesCount(Comment comment, boolean increment) {
-        int repliesCount = comment.getRepliesCount();
-        if (increment) {
-            comment.setRepliesCount(repliesCount + 1);
-        } else {
-            comment.setRepliesCount(repliesCount - 1);
-        }
-        commentRepository.save(comment);
+        add(CounterType.COMMENT_REPLIES, comment.getId(), increment);
+    }
+
+    public void flush() {
+        if (writeBehind) buffer.flush();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package br.com.notehub.application.counter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+@RequiredArgsConstructor
+public class CounterBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(CounterBuffer.class);
+
+    private record Key(CounterType type, UUID id) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Map<Key, LongAdder> pending = new ConcurrentHashMap<>();
+    private final Set<Key> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Value("${counters.write-behind.batch-size}")
+    private int batchSize;
+
+    private Map<Key, LongAdder> drain() {
+        lock.writeLock().lock();
+        try {
+            Map<Key, LongAdder> drained = pending;
+            pending = new ConcurrentHashMap<>();
+            return drained;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void write(Map<Key, Long> deltas) {
+        Timestamp now = Timestamp.from(Instant.now());
+        Map<CounterType, List<Object[]>> batches = new EnumMap<>(CounterType.class);
+        // Linhas sempre na mesma ordem (tabela, id): dois flushes concorrentes não se travam mutuamente.
+        deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(Key::id)))
+                .forEach(entry -> batches.computeIfAbsent(entry.getKey().type(), type -> new ArrayList<>())
+                        .add(entry.getKey().type().args(entry.getValue(), entry.getKey().id(), now)));
+        transactionTemplate.executeWithoutResult(status -> batches.forEach((type, args) -> {
+            for (int from = 0; from < args.size(); from += batchSize) {
+                jdbcTemplate.batchUpdate(type.sql(), args.subList(from, Math.min(from + batchSize, args.size())));
+            }
+        }));
+    }
+
+    public void add(CounterType type, UUID id, long delta) {
+        lock.readLock().lock();
+        try {
+            pending.computeIfAbsent(new Key(type, id), key -> new LongAdder()).add(delta);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isPending(CounterType type, UUID id) {
+        Key key = new Key(type, id);
+        LongAdder adder = pending.get(key);
+        return (adder != null && adder.sum() != 0) || inFlight.contains(key);
+    }
+
+    public synchronized void flush() {
+        Map<Key, Long> deltas = new HashMap<>();
+        drain().forEach((key, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) deltas.put(key, delta);
+        });
+        if (deltas.isEmpty()) return;
+        // Drenados mas ainda não confirmados: a reconciliação não pode corrigir essas linhas enquanto o lote grava.
+        inFlight.addAll(deltas.keySet());
+        try {
+            write(deltas);
+        } catch (RuntimeException e) {
+            logger.error("Falha ao gravar {} contadores; os deltas voltam para a fila", deltas.size(), e);
+            deltas.forEach((key, delta) -> add(key.type(), key.id(), delta));
+        } finally {
+            inFlight.removeAll(deltas.keySet());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+}
\ No newline at end of file
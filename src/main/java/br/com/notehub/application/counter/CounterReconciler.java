@@ -0,0 +1,152 @@
+package br.com.notehub.application.counter;
+
+import br.com.notehub.application.scheduler.SchedulerLock;
+import br.com.notehub.domain.job.JobCheckpoint;
+import br.com.notehub.domain.job.JobCheckpointRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class CounterReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CounterReconciler.class);
+
+    private static final String JOB_NAME = "counter-reconciliation";
+    private static final String JOB_PREFIX = JOB_NAME + "-";
+
+    private static final String SELECT_IDS = """
+            SELECT id FROM %s
+            WHERE (CAST(:after AS UUID) IS NULL OR id > CAST(:after AS UUID))
+            ORDER BY id
+            LIMIT :limit
+            """;
+
+    private static final String AGGREGATE = """
+            LEFT JOIN (
+                SELECT %2$s AS ref, COUNT(*) AS total FROM %1$s
+                WHERE %2$s BETWEEN :from AND :upto
+                GROUP BY %2$s
+            ) a%3$d ON a%3$d.ref = e.id
+            """;
+
+    private static final String PENDING = """
+            LEFT JOIN (
+                SELECT user_id AS ref, COUNT(*) AS total FROM follow_count_adjustments
+                WHERE counter = '%1$s' AND user_id BETWEEN :from AND :upto
+                GROUP BY user_id
+            ) p%2$d ON p%2$d.ref = e.id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JobCheckpointRepository checkpointRepository;
+    private final CounterBuffer buffer;
+    private final MeterRegistry registry;
+    private final SchedulerLock lock;
+
+    @Value("${counters.reconciliation.chunk-size}")
+    private int chunkSize;
+
+    @Value("${counters.write-behind.enabled}")
+    private boolean writeBehind;
+
+    @Value("${counters.reconciliation.lock-lease-minutes}")
+    private long leaseMinutes;
+
+    private static String compare(String table, List<CounterType> types) {
+        StringBuilder sql = new StringBuilder("SELECT e.id");
+        for (int i = 0; i < types.size(); i++) {
+            sql.append(", e.").append(types.get(i).column()).append(" AS stored").append(i);
+            sql.append(", COALESCE(a").append(i).append(".total, 0)");
+            if (types.get(i).isDeferred()) sql.append(" + COALESCE(p").append(i).append(".total, 0)");
+            sql.append(" AS actual").append(i);
+        }
+        sql.append(" FROM ").append(table).append(" e\n");
+        for (int i = 0; i < types.size(); i++) {
+            sql.append(AGGREGATE.formatted(types.get(i).source(), types.get(i).foreignKey(), i));
+            if (types.get(i).isDeferred()) sql.append(PENDING.formatted(types.get(i).column(), i));
+        }
+        return sql.append("WHERE e.id BETWEEN :from AND :upto").toString();
+    }
+
+    private Map<CounterType, Long> reconcileChunk(String table, List<CounterType> types, List<UUID> ids) {
+        Map<CounterType, List<Object[]>> corrections = new EnumMap<>(CounterType.class);
+        Timestamp now = Timestamp.from(Instant.now());
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("from", ids.get(0))
+                .addValue("upto", ids.get(ids.size() - 1));
+        jdbcTemplate.query(compare(table, types), params, row -> {
+            UUID id = row.getObject("id", UUID.class);
+            for (int i = 0; i < types.size(); i++) {
+                CounterType type = types.get(i);
+                long delta = row.getLong("actual" + i) - row.getLong("stored" + i);
+                if (delta == 0 || (writeBehind && buffer.isPending(type, id))) continue;
+                corrections.computeIfAbsent(type, key -> new ArrayList<>()).add(type.args(delta, id, now));
+            }
+        });
+        corrections.forEach((type, args) -> jdbcTemplate.getJdbcTemplate().batchUpdate(type.sql(), args));
+        Map<CounterType, Long> corrected = new EnumMap<>(CounterType.class);
+        corrections.forEach((type, args) -> corrected.put(type, (long) args.size()));
+        return corrected;
+    }
+
+    private Map<CounterType, Long> reconcile(String table, List<CounterType> types) {
+        String job = JOB_PREFIX + table;
+        JobCheckpoint checkpoint = checkpointRepository.findById(job).orElseGet(() -> new JobCheckpoint(job, null));
+        Map<CounterType, Long> corrected = new EnumMap<>(CounterType.class);
+        String selectIds = SELECT_IDS.formatted(table);
+        while (true) {
+            List<UUID> ids = jdbcTemplate.queryForList(selectIds, new MapSqlParameterSource()
+                    .addValue("after", checkpoint.getLastKey())
+                    .addValue("limit", chunkSize), UUID.class);
+            if (ids.isEmpty()) break;
+            Map<CounterType, Long> chunk = transactionTemplate.execute(status -> {
+                Map<CounterType, Long> rows = reconcileChunk(table, types, ids);
+                checkpoint.setLastKey(ids.get(ids.size() - 1).toString());
+                checkpoint.setUpdatedAt(Instant.now());
+                checkpointRepository.save(checkpoint);
+                return rows;
+            });
+            chunk.forEach((type, rows) -> {
+                registry.counter("counters.reconciled", "counter", type.name().toLowerCase()).increment(rows);
+                corrected.merge(type, rows, Long::sum);
+            });
+            if (ids.size() < chunkSize) break;
+        }
+        checkpoint.setLastKey(null);
+        checkpoint.setUpdatedAt(Instant.now());
+        checkpointRepository.save(checkpoint);
+        return corrected;
+    }
+
+    private Map<CounterType, Long> reconcileAll() {
+        if (writeBehind) buffer.flush();
+        Map<String, List<CounterType>> byTable = Arrays.stream(CounterType.values())
+                .collect(Collectors.groupingBy(CounterType::table, LinkedHashMap::new, Collectors.toList()));
+        Map<CounterType, Long> corrected = new EnumMap<>(CounterType.class);
+        byTable.forEach((table, types) -> corrected.putAll(reconcile(table, types)));
+        logger.info("Reconciliação de contadores concluída: {}", corrected.isEmpty() ? "nenhuma divergência" : corrected);
+        return corrected;
+    }
+
+    public Map<CounterType, Long> run() {
+        Map<CounterType, Long> corrected = new EnumMap<>(CounterType.class);
+        lock.run(JOB_NAME, Duration.ofMinutes(leaseMinutes), () -> corrected.putAll(reconcileAll()));
+        return corrected;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package br.com.notehub.application.counter;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+public enum CounterType {
+
+    NOTE_COMMENTS("notes", "comments_count", "comments", "note_id", true),
+    NOTE_FLAMES("notes", "flames_count", "flames", "note_id", true),
+    USER_NOTES("users", "notes_count", "notes", "user_id", true),
+    USER_FOLLOWERS("users", "followers_count", "follows", "following_id", true),
+    USER_FOLLOWING("users", "following_count", "follows", "follower_id", true),
+    COMMENT_REPLIES("comments", "replies_count", "replies", "comment_id", false);
+
+    private final String table;
+    private final String column;
+    private final String source;
+    private final String foreignKey;
+    private final boolean versioned;
+    private final String sql;
+
+    CounterType(String table, String column, String source, String foreignKey, boolean versioned) {
+        this.table = table;
+        this.column = column;
+        this.source = source;
+        this.foreignKey = foreignKey;
+        this.versioned = versioned;
+        this.sql = "UPDATE " + table + " SET " + column + " = " + column + " + ?" + (versioned ? ", updated_at = ?" : "") + " WHERE id = ?";
+    }
+
+    String table() {
+        return table;
+    }
+
+    String column() {
+        return column;
+    }
+
+    String source() {
+        return source;
+    }
+
+    String foreignKey() {
+        return foreignKey;
+    }
+
+    String sql() {
+        return sql;
+    }
+
+    Object[] args(long delta, UUID id, Timestamp now) {
+        return versioned ? new Object[]{delta, now, id} : new Object[]{delta, id};
+    }
+
+    boolean isDeferred() {
+        return source.equals("follows");
+    }
+
+}
\ No newline at end of file
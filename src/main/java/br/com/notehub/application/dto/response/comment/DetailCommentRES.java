@@ -20,9 +20,17 @@ public record DetailCommentRES(
 ) {
     public DetailCommentRES(Comment comment) {
         this(
-                comment.getId(),
+                comment,
                 comment.getUser() != null ? new DetailUserRES(comment.getUser()) : null,
-                new LowDetailNoteRES(comment.getNote()),
+                new LowDetailNoteRES(comment.getNote())
+        );
+    }
+
+    public DetailCommentRES(Comment comment, DetailUserRES user, LowDetailNoteRES note) {
+        this(
+                comment.getId(),
+                user,
+                note,
                 comment.getCreatedAt().atZone(ZoneId.of("America/Sao_Paulo")).format(DateTimeFormatter.ofPattern("d/M/yy HH:mm", Locale.of("pt-BR"))),
                 comment.getText(),
                 comment.isModified(),
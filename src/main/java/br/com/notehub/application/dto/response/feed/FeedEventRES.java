@@ -9,6 +9,7 @@ import br.com.notehub.domain.feed.FeedEvent;
 
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Locale;
 
 public record FeedEventRES(
@@ -19,17 +20,21 @@ public record FeedEventRES(
         LowDetailNoteRES note,
         DetailFlameRES flame,
         DetailCommentRES comment,
+        int actors_count,
+        List<DetailUserRES> top_actors,
         String created_at
 ) {
-    public FeedEventRES(Feed feed) {
+    public FeedEventRES(Feed feed, DetailUserRES recipient, DetailUserRES actor, DetailUserRES related, LowDetailNoteRES note, DetailFlameRES flame, DetailCommentRES comment, List<DetailUserRES> topActors) {
         this(
                 feed.getEvent(),
-                new DetailUserRES(feed.getRecipient()),
-                new DetailUserRES(feed.getActor()),
-                feed.getRelated() == null ? null : new DetailUserRES(feed.getRelated()),
-                feed.getNote() == null ? null : new LowDetailNoteRES(feed.getNote()),
-                feed.getFlame() == null ? null : new DetailFlameRES(feed.getFlame()),
-                feed.getComment() == null ? null : new DetailCommentRES(feed.getComment()),
+                recipient,
+                actor,
+                related,
+                note,
+                flame,
+                comment,
+                feed.getActorsCount(),
+                topActors,
                 feed.getCreatedAt().atZone(ZoneId.of("America/Sao_Paulo")).format(DateTimeFormatter.ofPattern("d/M/yy HH:mm", Locale.of("pt-BR")))
         );
     }
@@ -12,9 +12,13 @@ public record DetailFlameRES(
         LowDetailNoteRES note
 ) {
     public DetailFlameRES(Flame flame) {
+        this(flame, new LowDetailNoteRES(flame.getNote()));
+    }
+
+    public DetailFlameRES(Flame flame, LowDetailNoteRES note) {
         this(
                 flame.getCreatedAt().atZone(ZoneId.of("America/Sao_Paulo")).format(DateTimeFormatter.ofPattern("d/M/yy HH:mm", Locale.of("pt-BR"))),
-                new LowDetailNoteRES(flame.getNote())
+                note
         );
     }
 }
\ No newline at end of file
@@ -42,4 +42,12 @@ public record DetailNoteRES(
                 note.getFlamesCount()
         );
     }
+
+    public DetailNoteRES withUser(DetailUserRES user) {
+        return new DetailNoteRES(id, title, description, tags, user, created_at, modified_at, modified, closed, hidden, markdown, comments_count, flames_count);
+    }
+
+    public DetailNoteRES withCounters(int comments_count, int flames_count) {
+        return new DetailNoteRES(id, title, description, tags, user, created_at, modified_at, modified, closed, hidden, markdown, comments_count, flames_count);
+    }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package br.com.notehub.application.dto.response.note;
 
 import br.com.notehub.application.dto.response.user.DetailUserRES;
 import br.com.notehub.domain.note.Note;
+import br.com.notehub.domain.note.NoteSummary;
 import br.com.notehub.domain.tag.Tag;
 
 import java.time.ZoneId;
@@ -25,12 +26,16 @@ public record LowDetailNoteRES(
         int flames_count
 ) {
     public LowDetailNoteRES(Note note) {
+        this(note, note.getUser() != null ? new DetailUserRES(note.getUser()) : null);
+    }
+
+    public LowDetailNoteRES(Note note, DetailUserRES user) {
         this(
                 note.getId(),
                 note.getTitle(),
                 note.getDescription(),
                 note.getTags().stream().map(Tag::getName).toList(),
-                note.getUser() != null ? new DetailUserRES(note.getUser()) : null,
+                user,
                 note.getCreatedAt().atZone(ZoneId.of("America/Sao_Paulo")).format(DateTimeFormatter.ofPattern("d/M/yy HH:mm", Locale.of("pt-BR"))),
                 note.getModifiedAt().atZone(ZoneId.of("America/Sao_Paulo")).format(DateTimeFormatter.ofPattern("d/M/yy HH:mm", Locale.of("pt-BR"))),
                 note.isModified(),
@@ -40,4 +45,21 @@ public record LowDetailNoteRES(
                 note.getFlamesCount()
         );
     }
+
+    public LowDetailNoteRES(NoteSummary note, List<String> tags) {
+        this(
+                note.id(),
+                note.title(),
+                note.description(),
+                tags,
+                note.user(),
+                note.createdAt().atZone(ZoneId.of("America/Sao_Paulo")).format(DateTimeFormatter.ofPattern("d/M/yy HH:mm", Locale.of("pt-BR"))),
+                note.modifiedAt().atZone(ZoneId.of("America/Sao_Paulo")).format(DateTimeFormatter.ofPattern("d/M/yy HH:mm", Locale.of("pt-BR"))),
+                note.modified(),
+                note.closed(),
+                note.hidden(),
+                note.commentsCount(),
+                note.flamesCount()
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package br.com.notehub.application.dto.response.note;
+
+import java.util.List;
+import java.util.UUID;
+
+public record NoteSnippetRES(
+        UUID id,
+        String title,
+        String field,
+        String snippet,
+        List<Highlight> highlights
+) {
+    public record Highlight(int start, int end) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package br.com.notehub.application.dto.response.page;
+
+import java.util.List;
+
+public record CursorRES<T>(
+        int size,
+        String next,
+        List<T> content
+) {
+}
@@ -0,0 +1,12 @@
+package br.com.notehub.application.dto.response.stream;
+
+import br.com.notehub.domain.feed.FeedEvent;
+import br.com.notehub.domain.feed.events.FeedFannedOutEvent;
+
+import java.util.UUID;
+
+public record FeedSignalRES(FeedEvent event, UUID actor_id, UUID note_id) {
+    public FeedSignalRES(FeedFannedOutEvent fannedOut) {
+        this(fannedOut.event(), fannedOut.actorId(), fannedOut.noteId());
+    }
+}
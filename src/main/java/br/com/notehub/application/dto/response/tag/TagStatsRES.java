@@ -0,0 +1,8 @@
+package br.com.notehub.application.dto.response.tag;
+
+public record TagStatsRES(
+        String name,
+        int notes_count,
+        double score
+) {
+}
\ No newline at end of file
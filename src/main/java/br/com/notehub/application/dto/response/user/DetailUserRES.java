@@ -2,6 +2,7 @@ package br.com.notehub.application.dto.response.user;
 
 import br.com.notehub.domain.user.User;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
@@ -23,7 +24,7 @@ public record DetailUserRES(
 ) {
     public DetailUserRES(User user) {
         this(
-                user.getCreatedAt().atZone(ZoneId.of("America/Sao_Paulo")).format(DateTimeFormatter.ofPattern("d/M/yy", Locale.of("pt-BR"))),
+                user.getCreatedAt(),
                 user.getUsername(),
                 user.getDisplayName(),
                 user.getAvatar(),
@@ -38,4 +39,22 @@ public record DetailUserRES(
                 user.isBlocked()
         );
     }
+
+    public DetailUserRES(Instant createdAt, String username, String displayName, String avatar, String banner, String message, int notesCount, int followersCount, int followingCount, boolean profilePrivate, boolean dev, boolean sponsor, boolean blocked) {
+        this(
+                createdAt.atZone(ZoneId.of("America/Sao_Paulo")).format(DateTimeFormatter.ofPattern("d/M/yy", Locale.of("pt-BR"))),
+                username,
+                displayName,
+                avatar,
+                banner,
+                message,
+                notesCount,
+                followersCount,
+                followingCount,
+                profilePrivate,
+                dev,
+                sponsor,
+                blocked
+        );
+    }
 }
\ No newline at end of file
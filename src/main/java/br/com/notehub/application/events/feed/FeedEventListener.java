@@ -0,0 +1,84 @@
+package br.com.notehub.application.events.feed;
+
+import br.com.notehub.adapter.producer.OutboxRelay;
+import br.com.notehub.domain.comment.events.NoteCommentedEvent;
+import br.com.notehub.domain.flame.events.NoteFlamedEvent;
+import br.com.notehub.domain.follow.events.UserFollowedEvent;
+import br.com.notehub.domain.follow.events.UserUnfollowedEvent;
+import br.com.notehub.domain.note.events.NoteCreatedEvent;
+import br.com.notehub.domain.note.events.NoteHiddenEvent;
+import br.com.notehub.domain.outbox.OutboxEvent;
+import br.com.notehub.domain.outbox.OutboxRepository;
+import br.com.notehub.domain.user.events.ProfilePrivacyChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+
+@Component
+@RequiredArgsConstructor
+public class FeedEventListener {
+
+    private final OutboxRepository outbox;
+    private final ObjectMapper mapper;
+    private final OutboxRelay relay;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private void append(Object event) {
+        try {
+            OutboxEvent appended = outbox.save(new OutboxEvent(event.getClass().getSimpleName(), mapper.writeValueAsString(event)));
+            eventPublisher.publishEvent(appended);
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @EventListener
+    public void onProfilePrivacyChanged(ProfilePrivacyChangedEvent event) {
+        append(event);
+    }
+
+    @EventListener
+    public void onUserFollowed(UserFollowedEvent event) {
+        append(event);
+    }
+
+    @EventListener
+    public void onUserUnfollowed(UserUnfollowedEvent event) {
+        append(event);
+    }
+
+    @EventListener
+    public void onNoteCreated(NoteCreatedEvent event) {
+        append(event);
+    }
+
+    @EventListener
+    public void onNoteHidden(NoteHiddenEvent event) {
+        append(event);
+    }
+
+    @EventListener
+    public void onNoteFlamed(NoteFlamedEvent event) {
+        append(event);
+    }
+
+    @EventListener
+    public void onNoteCommented(NoteCommentedEvent event) {
+        append(event);
+    }
+
+    @Async("feedExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOutboxAppended(OutboxEvent event) {
+        relay.relay();
+    }
+
+}
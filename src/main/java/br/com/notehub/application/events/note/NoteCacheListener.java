@@ -0,0 +1,33 @@
+package br.com.notehub.application.events.note;
+
+import br.com.notehub.application.implementation.note.NoteDetailCache;
+import br.com.notehub.domain.note.events.NoteDeletedEvent;
+import br.com.notehub.domain.note.events.NoteEditedEvent;
+import br.com.notehub.domain.note.events.UserNotesDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class NoteCacheListener {
+
+    private final NoteDetailCache cache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNoteEdited(NoteEditedEvent event) {
+        cache.evict(event.noteId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNoteDeleted(NoteDeletedEvent event) {
+        cache.evict(event.noteId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserNotesDeleted(UserNotesDeletedEvent event) {
+        cache.evictByAuthor(event.userId());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package br.com.notehub.application.events.search;
+
+import br.com.notehub.application.search.SearchIndexer;
+import br.com.notehub.domain.follow.events.UserDeletedEvent;
+import br.com.notehub.domain.note.events.NoteCreatedEvent;
+import br.com.notehub.domain.note.events.NoteDeletedEvent;
+import br.com.notehub.domain.note.events.NoteEditedEvent;
+import br.com.notehub.domain.note.events.NoteHiddenEvent;
+import br.com.notehub.domain.note.events.UserNotesDeletedEvent;
+import br.com.notehub.domain.user.events.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class SearchIndexListener {
+
+    private final SearchIndexer indexer;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNoteCreated(NoteCreatedEvent event) {
+        indexer.indexNote(event.noteId());
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNoteEdited(NoteEditedEvent event) {
+        indexer.indexNote(event.noteId());
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNoteHidden(NoteHiddenEvent event) {
+        indexer.indexNote(event.noteId());
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNoteDeleted(NoteDeletedEvent event) {
+        indexer.indexNote(event.noteId());
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserNotesDeleted(UserNotesDeletedEvent event) {
+        indexer.reindexAuthorNotes(event.userId());
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        indexer.indexUser(event.userId(), event.notesAffected());
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserDeleted(UserDeletedEvent event) {
+        indexer.indexUser(event.userId(), false);
+        indexer.reindexAuthorNotes(event.userId());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package br.com.notehub.application.events.stream;
+
+import br.com.notehub.application.dto.response.stream.FeedSignalRES;
+import br.com.notehub.domain.feed.events.FeedFannedOutEvent;
+import br.com.notehub.domain.notification.events.NotificationCreatedEvent;
+import br.com.notehub.domain.stream.StreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class StreamEventListener {
+
+    private final StreamService streamer;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFeedFannedOut(FeedFannedOutEvent event) {
+        streamer.publish(event.recipientIds(), "feed", new FeedSignalRES(event));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        streamer.publish(List.of(event.toId()), "notification", event.notification());
+    }
+
+}
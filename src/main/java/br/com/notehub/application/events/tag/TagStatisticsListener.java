@@ -0,0 +1,21 @@
+package br.com.notehub.application.events.tag;
+
+import br.com.notehub.domain.note.events.NoteTagsChangedEvent;
+import br.com.notehub.domain.tag.TagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class TagStatisticsListener {
+
+    private final TagService tagService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNoteTagsChanged(NoteTagsChangedEvent event) {
+        tagService.onNoteTagsChanged(event.before(), event.after(), event.publishedAt());
+    }
+
+}
\ No newline at end of file
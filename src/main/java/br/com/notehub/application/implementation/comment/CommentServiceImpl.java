@@ -9,7 +9,7 @@ import br.com.notehub.application.dto.response.page.PageRES;
 import br.com.notehub.domain.comment.Comment;
 import br.com.notehub.domain.comment.CommentRepository;
 import br.com.notehub.domain.comment.CommentService;
-import br.com.notehub.domain.feed.FeedService;
+import br.com.notehub.domain.comment.events.NoteCommentedEvent;
 import br.com.notehub.domain.follow.FollowService;
 import br.com.notehub.domain.note.Note;
 import br.com.notehub.domain.note.NoteRepository;
@@ -19,6 +19,7 @@ import br.com.notehub.domain.user.UserRepository;
 import jakarta.annotation.Nullable;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
@@ -39,7 +40,7 @@ public class CommentServiceImpl implements CommentService {
     private final FollowService followService;
     private final NotificationService notifier;
     private final Counter counter;
-    private final FeedService feeder;
+    private final ApplicationEventPublisher eventPublisher;
 
     private void validateAccess(@Nullable UUID idFromToken, UUID idFromRequested) {
         if (idFromToken == null) throw new AccessDeniedException("Usuário sem permissão.");
@@ -66,7 +67,7 @@ public class CommentServiceImpl implements CommentService {
         repository.save(comment);
         counter.updateCommentsCount(comment.getNote(), true);
         notifier.notify(comment.getUser(), comment.getNote().getUser(), comment.getNote().getUser(), MessageNotification.of(comment));
-        feeder.onNoteCommented(comment.getId());
+        eventPublisher.publishEvent(new NoteCommentedEvent(comment.getId()));
         return new CreateCommentRES(comment);
     }
 
@@ -0,0 +1,171 @@
+package br.com.notehub.application.implementation.feed;
+
+import br.com.notehub.application.dto.response.comment.DetailCommentRES;
+import br.com.notehub.application.dto.response.feed.FeedEventRES;
+import br.com.notehub.application.dto.response.flame.DetailFlameRES;
+import br.com.notehub.application.dto.response.note.LowDetailNoteRES;
+import br.com.notehub.application.dto.response.user.DetailUserRES;
+import br.com.notehub.domain.comment.Comment;
+import br.com.notehub.domain.comment.CommentRepository;
+import br.com.notehub.domain.feed.Feed;
+import br.com.notehub.domain.flame.Flame;
+import br.com.notehub.domain.flame.FlameRepository;
+import br.com.notehub.domain.note.Note;
+import br.com.notehub.domain.note.NoteRepository;
+import br.com.notehub.domain.user.User;
+import br.com.notehub.domain.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+@RequiredArgsConstructor
+public class FeedPageAssembler {
+
+    private final UserRepository userRepository;
+    private final NoteRepository noteRepository;
+    private final FlameRepository flameRepository;
+    private final CommentRepository commentRepository;
+
+    private static UUID idOf(User user) {
+        return user == null ? null : user.getId();
+    }
+
+    private static UUID idOf(Note note) {
+        return note == null ? null : note.getId();
+    }
+
+    private static Set<UUID> collect(Stream<UUID> ids) {
+        return ids.filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    private static <T> Map<UUID, T> index(Collection<T> entities, Function<T, UUID> id) {
+        return entities.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+
+    public List<FeedEventRES> assemble(List<Feed> feeds) {
+        if (feeds.isEmpty()) return List.of();
+
+        Set<UUID> flameIds = collect(feeds.stream().map(f -> f.getFlame() == null ? null : f.getFlame().getId()));
+        Set<UUID> commentIds = collect(feeds.stream().map(f -> f.getComment() == null ? null : f.getComment().getId()));
+        Map<UUID, Flame> flames = flameIds.isEmpty() ? Map.of() : index(flameRepository.findAllById(flameIds), Flame::getId);
+        Map<UUID, Comment> comments = commentIds.isEmpty() ? Map.of() : index(commentRepository.findAllById(commentIds), Comment::getId);
+
+        Set<UUID> noteIds = collect(Stream.of(
+                feeds.stream().map(f -> idOf(f.getNote())),
+                flames.values().stream().map(f -> idOf(f.getNote())),
+                comments.values().stream().map(c -> idOf(c.getNote()))
+        ).flatMap(Function.identity()));
+        Map<UUID, Note> notes = noteIds.isEmpty() ? Map.of() : index(noteRepository.findAllWithTagsByIdIn(noteIds), Note::getId);
+
+        Set<UUID> userIds = collect(Stream.of(
+                feeds.stream().flatMap(f -> Stream.of(idOf(f.getRecipient()), idOf(f.getActor()), idOf(f.getRelated()))),
+                feeds.stream().flatMap(f -> f.getTopActorIds().stream()),
+                comments.values().stream().map(c -> idOf(c.getUser())),
+                notes.values().stream().map(n -> idOf(n.getUser()))
+        ).flatMap(Function.identity()));
+        Map<UUID, User> users = index(userRepository.findAllById(userIds), User::getId);
+
+        return new PageAssembly(users, notes, flames, comments).assemble(feeds);
+    }
+
+    private static class PageAssembly {
+
+        private final Map<UUID, User> users;
+        private final Map<UUID, Note> notes;
+        private final Map<UUID, Flame> flames;
+        private final Map<UUID, Comment> comments;
+
+        private final Map<UUID, DetailUserRES> userViews = new HashMap<>();
+        private final Map<UUID, LowDetailNoteRES> noteViews = new HashMap<>();
+        private final Map<UUID, DetailFlameRES> flameViews = new HashMap<>();
+        private final Map<UUID, DetailCommentRES> commentViews = new HashMap<>();
+
+        private PageAssembly(Map<UUID, User> users, Map<UUID, Note> notes, Map<UUID, Flame> flames, Map<UUID, Comment> comments) {
+            this.users = users;
+            this.notes = notes;
+            this.flames = flames;
+            this.comments = comments;
+        }
+
+        private DetailUserRES user(UUID id) {
+            if (id == null) return null;
+            DetailUserRES view = userViews.get(id);
+            if (view == null) {
+                User user = users.get(id);
+                if (user == null) return null;
+                view = new DetailUserRES(user);
+                userViews.put(id, view);
+            }
+            return view;
+        }
+
+        private LowDetailNoteRES note(UUID id) {
+            if (id == null) return null;
+            LowDetailNoteRES view = noteViews.get(id);
+            if (view == null) {
+                Note note = notes.get(id);
+                if (note == null) return null;
+                view = new LowDetailNoteRES(note, user(idOf(note.getUser())));
+                noteViews.put(id, view);
+            }
+            return view;
+        }
+
+        private DetailFlameRES flame(Flame ref) {
+            if (ref == null) return null;
+            DetailFlameRES view = flameViews.get(ref.getId());
+            if (view == null) {
+                Flame flame = flames.get(ref.getId());
+                LowDetailNoteRES note = (flame != null) ? note(idOf(flame.getNote())) : null;
+                if (note == null) return null;
+                view = new DetailFlameRES(flame, note);
+                flameViews.put(ref.getId(), view);
+            }
+            return view;
+        }
+
+        private DetailCommentRES comment(Comment ref) {
+            if (ref == null) return null;
+            DetailCommentRES view = commentViews.get(ref.getId());
+            if (view == null) {
+                Comment comment = comments.get(ref.getId());
+                LowDetailNoteRES note = (comment != null) ? note(idOf(comment.getNote())) : null;
+                if (note == null) return null;
+                view = new DetailCommentRES(comment, user(idOf(comment.getUser())), note);
+                commentViews.put(ref.getId(), view);
+            }
+            return view;
+        }
+
+        // Nota, chama ou comentário excluídos entre a leitura do feed e a carga em lote: o evento sai da página.
+        private FeedEventRES event(Feed feed) {
+            LowDetailNoteRES note = note(idOf(feed.getNote()));
+            DetailFlameRES flame = flame(feed.getFlame());
+            DetailCommentRES comment = comment(feed.getComment());
+            if ((feed.getNote() != null && note == null) || (feed.getFlame() != null && flame == null) || (feed.getComment() != null && comment == null)) {
+                return null;
+            }
+            return new FeedEventRES(
+                    feed,
+                    user(idOf(feed.getRecipient())),
+                    user(idOf(feed.getActor())),
+                    user(idOf(feed.getRelated())),
+                    note,
+                    flame,
+                    comment,
+                    feed.getTopActorIds().stream().map(this::user).filter(Objects::nonNull).toList()
+            );
+        }
+
+        private List<FeedEventRES> assemble(List<Feed> feeds) {
+            return feeds.stream().map(this::event).filter(Objects::nonNull).toList();
+        }
+
+    }
+
+}
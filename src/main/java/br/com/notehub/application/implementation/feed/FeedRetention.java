@@ -0,0 +1,215 @@
+package br.com.notehub.application.implementation.feed;
+
+import br.com.notehub.application.scheduler.SchedulerLock;
+import br.com.notehub.domain.job.JobCheckpoint;
+import br.com.notehub.domain.job.JobCheckpointRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class FeedRetention {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedRetention.class);
+
+    private static final String JOB_NAME = "feed-retention";
+    private static final String PARTITION_PREFIX = "feed_p";
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String SELECT_RECIPIENTS = """
+            SELECT recipient_id FROM feed
+            WHERE (CAST(:after AS UUID) IS NULL OR recipient_id > CAST(:after AS UUID))
+            GROUP BY recipient_id
+            HAVING COUNT(*) > :max
+            ORDER BY recipient_id
+            LIMIT :limit
+            """;
+
+    private static final String DELETE_OVER_CAP = """
+            DELETE FROM feed
+            WHERE id IN (
+                SELECT id FROM (
+                    SELECT id, ROW_NUMBER() OVER (PARTITION BY recipient_id ORDER BY created_at DESC, id DESC) AS rn
+                    FROM feed
+                    WHERE recipient_id IN (:recipients)
+                ) ranked
+                WHERE rn > :max
+            )
+            """;
+
+    private static final String DELETE_EXPIRED = """
+            DELETE FROM %1$s
+            WHERE id IN (SELECT id FROM %1$s WHERE created_at < :before LIMIT :limit)
+            """;
+
+    private static final String SELECT_PARTITIONS = """
+            SELECT c.relname AS name, GREATEST(c.reltuples, 0)::BIGINT AS tuples
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname = 'feed' AND c.relname LIKE 'feed\\_p%'
+            """;
+
+    private static final String CREATE_PARTITION = "CREATE TABLE IF NOT EXISTS %s PARTITION OF feed FOR VALUES FROM ('%s 00:00+00') TO ('%s 00:00+00')";
+
+    private static final String PARTITION_EXISTS = "SELECT to_regclass(?) IS NOT NULL";
+
+    private static final String DEFAULT_IN_RANGE = "SELECT EXISTS (SELECT 1 FROM feed_default WHERE created_at >= '%s 00:00+00' AND created_at < '%s 00:00+00')";
+
+    private static final String MOVE_FROM_DEFAULT = "INSERT INTO feed SELECT * FROM feed_default WHERE created_at >= '%s 00:00+00' AND created_at < '%s 00:00+00'";
+
+    private static final String DELETE_FROM_DEFAULT = "DELETE FROM feed_default WHERE created_at >= '%s 00:00+00' AND created_at < '%s 00:00+00'";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JobCheckpointRepository checkpointRepository;
+    private final MeterRegistry registry;
+    private final SchedulerLock lock;
+
+    @Value("${feed.retention.max-per-recipient}")
+    private int maxPerRecipient;
+
+    @Value("${feed.retention.max-age-days}")
+    private long maxAgeDays;
+
+    @Value("${feed.retention.chunk-size}")
+    private int chunkSize;
+
+    @Value("${feed.retention.partitioning-enabled}")
+    private boolean partitioningEnabled;
+
+    @Value("${feed.retention.partitions-ahead}")
+    private int partitionsAhead;
+
+    @Value("${feed.retention.lock-lease-minutes}")
+    private long leaseMinutes;
+
+    private void reclaimed(String reason, long rows) {
+        if (rows > 0) registry.counter("feed.retention.reclaimed", "reason", reason).increment(rows);
+    }
+
+    private long trimRecipients() {
+        JobCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME).orElseGet(() -> new JobCheckpoint(JOB_NAME, null));
+        long deleted = 0;
+        while (true) {
+            List<UUID> recipients = jdbcTemplate.queryForList(SELECT_RECIPIENTS, new MapSqlParameterSource()
+                    .addValue("after", checkpoint.getLastKey())
+                    .addValue("max", maxPerRecipient)
+                    .addValue("limit", chunkSize), UUID.class);
+            if (recipients.isEmpty()) break;
+            Integer chunk = transactionTemplate.execute(status -> {
+                int rows = jdbcTemplate.update(DELETE_OVER_CAP, new MapSqlParameterSource()
+                        .addValue("recipients", recipients)
+                        .addValue("max", maxPerRecipient));
+                checkpoint.setLastKey(recipients.get(recipients.size() - 1).toString());
+                checkpoint.setUpdatedAt(Instant.now());
+                checkpointRepository.save(checkpoint);
+                return rows;
+            });
+            reclaimed("cap", chunk);
+            deleted += chunk;
+            if (recipients.size() < chunkSize) break;
+        }
+        checkpoint.setLastKey(null);
+        checkpoint.setUpdatedAt(Instant.now());
+        checkpointRepository.save(checkpoint);
+        return deleted;
+    }
+
+    private long deleteExpired(String table, Instant before) {
+        String sql = DELETE_EXPIRED.formatted(table);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("before", Timestamp.from(before))
+                .addValue("limit", chunkSize);
+        long deleted = 0;
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> jdbcTemplate.update(sql, params));
+            reclaimed("age", chunk);
+            deleted += chunk;
+        } while (chunk == chunkSize);
+        return deleted;
+    }
+
+    private void createPartition(String name, YearMonth month) {
+        JdbcTemplate jdbc = jdbcTemplate.getJdbcTemplate();
+        if (Boolean.TRUE.equals(jdbc.queryForObject(PARTITION_EXISTS, Boolean.class, name))) return;
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!Boolean.TRUE.equals(jdbc.queryForObject(DEFAULT_IN_RANGE.formatted(from, to), Boolean.class))) {
+                jdbc.execute(CREATE_PARTITION.formatted(name, from, to));
+                return;
+            }
+            // Após uma lacuna maior que partitions-ahead, o mês já tem linhas na partição padrão e o CREATE falharia.
+            jdbc.execute("ALTER TABLE feed DETACH PARTITION feed_default");
+            jdbc.execute(CREATE_PARTITION.formatted(name, from, to));
+            int moved = jdbc.update(MOVE_FROM_DEFAULT.formatted(from, to));
+            jdbc.update(DELETE_FROM_DEFAULT.formatted(from, to));
+            jdbc.execute("ALTER TABLE feed ATTACH PARTITION feed_default DEFAULT");
+            logger.info("Partição {} do feed criada com {} registros vindos da partição padrão", name, moved);
+        });
+    }
+
+    private long rotatePartitions(Instant before) {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (int i = 0; i <= partitionsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            String name = PARTITION_PREFIX + month.format(PARTITION_MONTH);
+            try {
+                createPartition(name, month);
+            } catch (DataAccessException exception) {
+                logger.error("Falha ao criar a partição {} do feed; a retenção segue sem ela", name, exception);
+            }
+        }
+        YearMonth cutoff = YearMonth.from(before.atZone(ZoneOffset.UTC));
+        long dropped = 0;
+        for (Map<String, Object> partition : jdbcTemplate.getJdbcTemplate().queryForList(SELECT_PARTITIONS)) {
+            String name = (String) partition.get("name");
+            YearMonth month;
+            try {
+                month = YearMonth.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_MONTH);
+            } catch (DateTimeException exception) {
+                continue;
+            }
+            if (!month.isBefore(cutoff)) continue;
+            long rows = ((Number) partition.get("tuples")).longValue();
+            jdbcTemplate.getJdbcTemplate().execute("DROP TABLE IF EXISTS " + name);
+            logger.info("Partição {} do feed removida (~{} registros)", name, rows);
+            reclaimed("partition", rows);
+            dropped += rows;
+        }
+        return dropped;
+    }
+
+    private void retain() {
+        Instant before = Instant.now().minus(maxAgeDays, ChronoUnit.DAYS);
+        long partitions = partitioningEnabled ? rotatePartitions(before) : 0;
+        long aged = deleteExpired(partitioningEnabled ? "feed_default" : "feed", before)
+                + deleteExpired("actor_events", before);
+        long capped = trimRecipients();
+        logger.info("Retenção do feed concluída: {} por limite, {} por idade, {} por partição", capped, aged, partitions);
+    }
+
+    public void run() {
+        lock.run(JOB_NAME, Duration.ofMinutes(leaseMinutes), this::retain);
+    }
+
+}
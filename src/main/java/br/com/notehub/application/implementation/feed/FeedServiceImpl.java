@@ -1,30 +1,37 @@
 package br.com.notehub.application.implementation.feed;
 
 import br.com.notehub.application.dto.response.feed.FeedEventRES;
+import br.com.notehub.application.dto.response.page.CursorRES;
 import br.com.notehub.application.dto.response.page.PageRES;
+import br.com.notehub.application.implementation.follow.FollowGraph;
 import br.com.notehub.domain.comment.Comment;
 import br.com.notehub.domain.comment.CommentRepository;
 import br.com.notehub.domain.feed.*;
+import br.com.notehub.domain.feed.events.FeedFannedOutEvent;
 import br.com.notehub.domain.flame.Flame;
 import br.com.notehub.domain.flame.FlameRepository;
-import br.com.notehub.domain.follow.Follow;
 import br.com.notehub.domain.follow.FollowRepository;
 import br.com.notehub.domain.note.Note;
 import br.com.notehub.domain.note.NoteRepository;
 import br.com.notehub.domain.user.User;
 import br.com.notehub.domain.user.UserRepository;
+import br.com.notehub.infra.exception.CustomExceptions;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Set;
-import java.util.UUID;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
 
 @Component
 @RequiredArgsConstructor
@@ -33,16 +40,34 @@ public class FeedServiceImpl implements FeedService {
     private final FeedRepository repository;
     private final UserRepository userRepository;
     private final FollowRepository followRepository;
+    private final FollowGraph followGraph;
     private final NoteRepository noteRepository;
     private final FlameRepository flameRepository;
     private final CommentRepository commentRepository;
+    private final ActorEventRepository actorEventRepository;
+    private final FeedPageAssembler assembler;
+    private final FeedRetention retention;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+    private static final Comparator<Feed> NEWEST_FEED_FIRST = Comparator
+            .comparing(Feed::getCreatedAt)
+            .thenComparing(feed -> feed.getId().toString())
+            .reversed();
+
+    private static final Set<FeedEvent> AGGREGATED_EVENTS = EnumSet.of(FeedEvent.NOTE_FLAMED, FeedEvent.NOTE_COMMENTED);
+
+    @Value("${feed.fanout.pull-threshold}")
+    private int pullThreshold;
+
+    @Value("${feed.aggregation.window-minutes}")
+    private long aggregationWindowMinutes;
+
+    @Value("${feed.aggregation.top-actors}")
+    private int topActors;
 
     private boolean canSeeProfile(User requesting, User requested) {
-        UUID requestingId = requesting.getId();
-        UUID requestedId = requested.getId();
-        boolean requestedFollowsRequesting = followRepository.existsByFollowerIdAndFollowingId(requestedId, requestingId);
-        boolean requestingFollowsRequested = followRepository.existsByFollowerIdAndFollowingId(requestingId, requestedId);
-        return requestedFollowsRequesting && requestingFollowsRequested;
+        return followGraph.isMutual(requesting.getId(), requested.getId());
     }
 
     private boolean canSeeNote(Note note, Flame flame, Comment comment) {
@@ -53,49 +78,88 @@ public class FeedServiceImpl implements FeedService {
     }
 
     private void fanOut(FeedEvent event, User actor, User related, Note note, Flame flame, Comment comment) {
-        Set<User> followers = followRepository.findByFollowingId(actor.getId(), Pageable.unpaged())
-                .map(Follow::getFollower)
-                .toSet();
-        List<Feed> events = followers.stream()
-                .filter(f -> canSeeProfile(actor, f))
-                .filter(f -> canSeeNote(note, flame, comment))
-                .map(f -> new Feed(event, f, actor, related, note, flame, comment))
+        if (!canSeeNote(note, flame, comment)) return;
+        if (actor.getFollowersCount() >= pullThreshold) {
+            actorEventRepository.save(new ActorEvent(event, actor, related, note, flame, comment));
+            return;
+        }
+        List<UUID> recipients = followRepository.findMutualFollowerIds(actor.getId());
+        List<UUID> inserted = AGGREGATED_EVENTS.contains(event) && note != null
+                ? aggregate(event, actor, note, recipients)
+                : recipients;
+        repository.insertForRecipients(
+                inserted,
+                event,
+                actor.getId(),
+                related != null ? related.getId() : null,
+                note != null ? note.getId() : null,
+                flame != null ? flame.getId() : null,
+                comment != null ? comment.getId() : null
+        );
+        eventPublisher.publishEvent(new FeedFannedOutEvent(recipients, event, actor.getId(), note != null ? note.getId() : null));
+    }
+
+    private List<UUID> aggregate(FeedEvent event, User actor, Note note, List<UUID> recipients) {
+        Instant now = Instant.now();
+        Set<UUID> targets = new HashSet<>(recipients);
+        List<FeedAggregate> open = repository.findAggregatesSince(event, note.getId(), now.minus(aggregationWindowMinutes, ChronoUnit.MINUTES))
+                .stream()
+                .filter(aggregate -> targets.contains(aggregate.recipientId()))
+                .map(aggregate -> aggregate.with(actor.getId(), topActors))
                 .toList();
-        repository.saveAll(events);
+        repository.updateAggregates(open);
+        open.forEach(aggregate -> targets.remove(aggregate.recipientId()));
+        return recipients.stream().filter(targets::contains).toList();
+    }
+
+    private List<Feed> mergeNewestFirst(List<List<Feed>> sources, int limit) {
+        PriorityQueue<Map.Entry<Feed, Iterator<Feed>>> heads = new PriorityQueue<>(Map.Entry.comparingByKey(NEWEST_FEED_FIRST));
+        for (List<Feed> source : sources) {
+            Iterator<Feed> it = source.iterator();
+            if (it.hasNext()) heads.add(Map.entry(it.next(), it));
+        }
+        List<Feed> merged = new ArrayList<>(limit);
+        while (!heads.isEmpty() && merged.size() < limit) {
+            Map.Entry<Feed, Iterator<Feed>> head = heads.poll();
+            merged.add(head.getKey());
+            Iterator<Feed> it = head.getValue();
+            if (it.hasNext()) heads.add(Map.entry(it.next(), it));
+        }
+        return merged;
     }
 
-    @Async
     @Transactional
     @Override
     public void onProfilePrivacyChanged(UUID actorId, boolean isPrivateProfile) {
         User user = userRepository.findById(actorId).orElseThrow(EntityNotFoundException::new);
-        if (!isPrivateProfile) return;
+        // Eventos podem chegar fora de ordem; vale o estado atual do perfil, não o do evento.
+        if (!user.isProfilePrivate()) return;
         repository.deleteActorEventsForNonMutualFollowers(user.getId());
     }
 
-    @Async
     @Transactional
     @Override
     public void onUserFollowed(UUID followerId, UUID followingId) {
         User follower = userRepository.findById(followerId).orElseThrow(EntityNotFoundException::new);
         User following = userRepository.findById(followingId).orElseThrow(EntityNotFoundException::new);
+        if (!followRepository.existsByFollowerIdAndFollowingId(followerId, followingId)) return;
         fanOut(FeedEvent.USER_FOLLOWED, follower, following, null, null, null);
     }
 
-    @Async
     @Transactional
     @Override
     public void onUserUnfollowed(UUID unfollowingId, UUID followingId) {
         User exfollower = userRepository.findById(unfollowingId).orElseThrow(EntityNotFoundException::new);
         User exfollowing = userRepository.findById(followingId).orElseThrow(EntityNotFoundException::new);
+        if (followRepository.existsByFollowerIdAndFollowingId(unfollowingId, followingId)) return;
         repository.deleteActorFollowEvent(unfollowingId, followingId);
+        actorEventRepository.deleteActorFollowEvent(unfollowingId, followingId);
         repository.deleteAllExRecipientEventsOnUnfollowEventByActor(followingId, unfollowingId);
         if (!canSeeProfile(exfollowing, exfollower)) {
             repository.deleteAllExRecipientEventsOnUnfollowEventByActor(unfollowingId, followingId);
         }
     }
 
-    @Async
     @Transactional
     @Override
     public void onNoteCreated(UUID noteId) {
@@ -104,37 +168,85 @@ public class FeedServiceImpl implements FeedService {
         fanOut(FeedEvent.NOTE_CREATED, note.getUser(), null, note, null, null);
     }
 
-    @Async
     @Transactional
     @Override
     public void onNoteHidden(UUID noteId) {
         Note note = noteRepository.findById(noteId).orElseThrow(EntityNotFoundException::new);
-        if (note.isHidden()) repository.deleteAllByNoteId(noteId);
+        if (!note.isHidden()) return;
+        repository.deleteAllByNoteId(noteId);
+        actorEventRepository.deleteAllByNoteId(noteId);
     }
 
-    @Async
     @Transactional
     @Override
     public void onNoteFlamed(UUID flameId) {
         Flame flame = flameRepository.findById(flameId).orElseThrow(EntityNotFoundException::new);
-        fanOut(FeedEvent.NOTE_FLAMED, flame.getUser(), null, null, flame, null);
+        fanOut(FeedEvent.NOTE_FLAMED, flame.getUser(), null, flame.getNote(), flame, null);
     }
 
-    @Async
     @Transactional
     @Override
     public void onNoteCommented(UUID commentId) {
         Comment comment = commentRepository.findById(commentId).orElseThrow(EntityNotFoundException::new);
-        fanOut(FeedEvent.NOTE_COMMENTED, comment.getUser(), null, null, null, comment);
+        fanOut(FeedEvent.NOTE_COMMENTED, comment.getUser(), null, comment.getNote(), null, comment);
     }
 
-    @Override
-    public PageRES<FeedEventRES> getFeed(Pageable pageable, UUID recipientId, List<FeedEvent> events) {
+    private List<Feed> readMerged(UUID recipientId, List<FeedEvent> events, FeedCursor after, List<UUID> sources, int limit) {
         Specification<Feed> spec = Specification
                 .where(FeedSpec.forRecipient(recipientId))
-                .and(FeedSpec.withEvents(events));
-        Page<FeedEventRES> page = repository.findAll(spec, pageable).map(FeedEventRES::new);
-        return new PageRES<>(page);
+                .and(FeedSpec.withEvents(events))
+                .and(FeedSpec.before(after));
+        List<Feed> pushed = repository.findBy(spec, q -> q.sortBy(NEWEST_FIRST).limit(limit).all());
+        if (sources.isEmpty()) return pushed;
+        Specification<ActorEvent> pullSpec = Specification
+                .where(ActorEventSpec.fromActors(sources))
+                .and(ActorEventSpec.visibleTo(recipientId))
+                .and(ActorEventSpec.withEvents(events))
+                .and(ActorEventSpec.before(after));
+        List<ActorEvent> pulled = actorEventRepository.findBy(pullSpec, q -> q.sortBy(NEWEST_FIRST).limit(limit).all());
+        if (pulled.isEmpty()) return pushed;
+        User recipient = userRepository.getReferenceById(recipientId);
+        return mergeNewestFirst(List.of(
+                pushed,
+                pulled.stream().map(e -> e.toFeed(recipient)).toList()
+        ), limit);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public PageRES<FeedEventRES> getFeed(Pageable pageable, UUID recipientId, List<FeedEvent> events) {
+        List<UUID> sources = actorEventRepository.findPullSourceIds(recipientId);
+        if (sources.isEmpty()) {
+            Specification<Feed> spec = Specification
+                    .where(FeedSpec.forRecipient(recipientId))
+                    .and(FeedSpec.withEvents(events));
+            Page<Feed> page = repository.findAll(spec, pageable);
+            return new PageRES<>(new PageImpl<>(assembler.assemble(page.getContent()), pageable, page.getTotalElements()));
+        }
+        // Sem contagem nem offset: cada página exigiria reler o merge desde o topo, então só a primeira é servida
+        // e o total indica apenas se há mais; as seguintes vêm do cursor de '/feed/scroll'.
+        if (pageable.getPageNumber() > 0) throw new CustomExceptions.FeedPageNotSupportedException();
+        List<Feed> merged = readMerged(recipientId, events, null, sources, pageable.getPageSize() + 1);
+        boolean hasNext = merged.size() > pageable.getPageSize();
+        List<FeedEventRES> content = assembler.assemble(merged.stream().limit(pageable.getPageSize()).toList());
+        long total = content.size() + (hasNext ? 1 : 0);
+        return new PageRES<>(new PageImpl<>(content, pageable, total));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorRES<FeedEventRES> getFeedByCursor(String cursor, int size, UUID recipientId, List<FeedEvent> events) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        int limit = Math.min(Math.max(size, 1), 100);
+        List<Feed> merged = readMerged(recipientId, events, after, actorEventRepository.findPullSourceIds(recipientId), limit + 1);
+        String next = merged.size() > limit ? FeedCursor.of(merged.get(limit - 1)).encode() : null;
+        List<FeedEventRES> content = assembler.assemble(merged.stream().limit(limit).toList());
+        return new CursorRES<>(limit, next, content);
+    }
+
+    @Override
+    public void cleanFeed() {
+        retention.run();
     }
 
 }
\ No newline at end of file
@@ -4,10 +4,10 @@ import br.com.notehub.application.counter.Counter;
 import br.com.notehub.application.dto.notification.MessageNotification;
 import br.com.notehub.application.dto.response.flame.DetailFlameRES;
 import br.com.notehub.application.dto.response.page.PageRES;
-import br.com.notehub.domain.feed.FeedService;
 import br.com.notehub.domain.flame.Flame;
 import br.com.notehub.domain.flame.FlameRepository;
 import br.com.notehub.domain.flame.FlameService;
+import br.com.notehub.domain.flame.events.NoteFlamedEvent;
 import br.com.notehub.domain.follow.FollowService;
 import br.com.notehub.domain.note.Note;
 import br.com.notehub.domain.note.NoteRepository;
@@ -17,6 +17,7 @@ import br.com.notehub.domain.user.UserRepository;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
@@ -34,7 +35,7 @@ public class FlameServiceImpl implements FlameService {
     private final FollowService followService;
     private final NotificationService notifier;
     private final Counter counter;
-    private final FeedService feeder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -45,7 +46,7 @@ public class FlameServiceImpl implements FlameService {
         Flame flame = repository.save(new Flame(user, note));
         counter.updateFlamesCount(note, true);
         notifier.notify(flame.getUser(), note.getUser(), note.getUser(), MessageNotification.of(flame));
-        feeder.onNoteFlamed(flame.getId());
+        eventPublisher.publishEvent(new NoteFlamedEvent(flame.getId()));
         return new DetailFlameRES(flame);
     }
 
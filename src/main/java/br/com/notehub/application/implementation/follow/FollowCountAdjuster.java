@@ -0,0 +1,126 @@
+package br.com.notehub.application.implementation.follow;
+
+import br.com.notehub.application.scheduler.SchedulerLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class FollowCountAdjuster {
+
+    private static final Logger logger = LoggerFactory.getLogger(FollowCountAdjuster.class);
+
+    private static final Map<String, String> COUNTERS = Map.of("followers_count", "seguidores", "following_count", "seguindo");
+
+    private static final String JOB_NAME = "follow-count-adjustments";
+
+    private static final String SELECT_JOBS = "SELECT DISTINCT job_id, counter FROM follow_count_adjustments";
+
+    private static final String SELECT_CHUNK = """
+            SELECT user_id FROM follow_count_adjustments
+            WHERE job_id = :job AND counter = :counter
+            ORDER BY user_id
+            LIMIT :limit
+            """;
+
+    private static final String DELETE_CHUNK = """
+            DELETE FROM follow_count_adjustments
+            WHERE job_id = :job AND counter = :counter AND user_id IN (:ids)
+            """;
+
+    private static final String DECREMENT = """
+            UPDATE users SET %1$s = %1$s - 1, updated_at = :now
+            WHERE id IN (:ids)
+            """;
+
+    private static final String COUNT_PENDING = "SELECT COUNT(*) FROM follow_count_adjustments";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry registry;
+    private final SchedulerLock lock;
+
+    @Value("${follows.adjustments.chunk-size}")
+    private int chunkSize;
+
+    @Value("${follows.adjustments.lock-lease-minutes}")
+    private long leaseMinutes;
+
+    private static class ChunkTakenException extends RuntimeException {
+    }
+
+    @PostConstruct
+    void registerGauge() {
+        registry.gauge("follows.adjustments.pending", this, adjuster -> adjuster.pending());
+    }
+
+    private double pending() {
+        Long count = jdbcTemplate.getJdbcTemplate().queryForObject(COUNT_PENDING, Long.class);
+        return count != null ? count : 0;
+    }
+
+    private int applyChunk(UUID job, String counter) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("job", job)
+                .addValue("counter", counter)
+                .addValue("limit", chunkSize);
+        try {
+            Integer applied = transactionTemplate.execute(status -> {
+                List<UUID> ids = jdbcTemplate.queryForList(SELECT_CHUNK, params, UUID.class);
+                if (ids.isEmpty()) return 0;
+                params.addValue("ids", ids).addValue("now", Timestamp.from(Instant.now()));
+                if (jdbcTemplate.update(DELETE_CHUNK, params) != ids.size()) throw new ChunkTakenException();
+                jdbcTemplate.update(DECREMENT.formatted(counter), params);
+                return ids.size();
+            });
+            return applied != null ? applied : 0;
+        } catch (ChunkTakenException e) {
+            return -1;
+        }
+    }
+
+    private long drain(UUID job, String counter) {
+        long applied = 0;
+        while (true) {
+            int chunk = applyChunk(job, counter);
+            // Outro processo consumiu parte do lote; o restante fica para a próxima execução agendada.
+            if (chunk < 0) return applied;
+            if (chunk > 0) registry.counter("follows.adjustments.applied", "counter", counter).increment(chunk);
+            applied += chunk;
+            if (chunk < chunkSize) return applied;
+        }
+    }
+
+    private void adjust() {
+        for (Map<String, Object> row : jdbcTemplate.getJdbcTemplate().queryForList(SELECT_JOBS)) {
+            UUID job = (UUID) row.get("job_id");
+            String counter = (String) row.get("counter");
+            if (!COUNTERS.containsKey(counter)) {
+                logger.warn("Ajuste de contador desconhecido ignorado: {}", counter);
+                continue;
+            }
+            long applied = drain(job, counter);
+            logger.info("Exclusão do usuário {}: {} contadores de {} decrementados", job, applied, COUNTERS.get(counter));
+        }
+    }
+
+    public void run() {
+        lock.run(JOB_NAME, Duration.ofMinutes(leaseMinutes), this::adjust);
+    }
+
+}
\ No newline at end of file
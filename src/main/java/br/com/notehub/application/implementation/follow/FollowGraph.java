@@ -0,0 +1,325 @@
+package br.com.notehub.application.implementation.follow;
+
+import br.com.notehub.domain.follow.FollowRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToDoubleFunction;
+
+@Component
+public class FollowGraph {
+
+    private static final Logger logger = LoggerFactory.getLogger(FollowGraph.class);
+
+    private static final String SELECT_FOLLOWS = "SELECT follower_id, following_id FROM follows";
+
+    private static final String SELECT_LAST_CHANGE = "SELECT COALESCE(MAX(id), 0) FROM follow_graph_changes";
+
+    private static final String SELECT_CHANGES = """
+            SELECT id, follower_id, following_id, linked FROM follow_graph_changes
+            WHERE id > ? OR created_at > ?
+            ORDER BY id
+            """;
+
+    private static final String DELETE_CHANGES = "DELETE FROM follow_graph_changes WHERE created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FollowRepository repository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock syncing = new ReentrantLock();
+
+    private Adjacency graph = new Adjacency();
+    private long lastChange;
+    private volatile boolean ready;
+
+    @Value("${follows.graph.sync-window-seconds}")
+    private long windowSeconds;
+
+    @Value("${follows.graph.changes-retention-hours}")
+    private long retentionHours;
+
+    private record Change(long id, UUID followerId, UUID followingId, boolean linked) {
+
+        void applyTo(Adjacency adjacency) {
+            if (followingId == null) adjacency.isolate(followerId);
+            else if (linked) adjacency.link(followerId, followingId);
+            else adjacency.unlink(followerId, followingId);
+        }
+
+    }
+
+    public FollowGraph(JdbcTemplate jdbcTemplate, FollowRepository repository, MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.repository = repository;
+        registry.gauge("follows.graph.users", this, follows -> follows.read(Adjacency::users));
+        registry.gauge("follows.graph.edges", this, follows -> follows.read(Adjacency::edges));
+        registry.gauge("follows.graph.bytes", this, follows -> follows.memoryBytes());
+    }
+
+    private double read(ToDoubleFunction<Adjacency> metric) {
+        lock.readLock().lock();
+        try {
+            return metric.applyAsDouble(graph);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Change> changesAfter(long id) {
+        // Relê também a janela recente: um id menor pode ter sido confirmado depois de um maior já aplicado.
+        // Reaplicar em ordem é seguro, pois alterações do mesmo vínculo nunca se confirmam fora de ordem.
+        Timestamp since = Timestamp.from(Instant.now().minusSeconds(windowSeconds));
+        List<Change> changes = new ArrayList<>();
+        jdbcTemplate.query(SELECT_CHANGES, rs -> {
+            changes.add(new Change(rs.getLong(1), rs.getObject(2, UUID.class), rs.getObject(3, UUID.class), rs.getBoolean(4)));
+        }, id, since);
+        return changes;
+    }
+
+    private void apply(Adjacency target, List<Change> changes) {
+        lock.writeLock().lock();
+        try {
+            changes.forEach(change -> change.applyTo(target));
+            graph = target;
+            if (!changes.isEmpty()) lastChange = Math.max(lastChange, changes.get(changes.size() - 1).id());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    public void reload() {
+        Long last = jdbcTemplate.queryForObject(SELECT_LAST_CHANGE, Long.class);
+        Adjacency loaded = new Adjacency();
+        jdbcTemplate.query(SELECT_FOLLOWS, rs -> {
+            loaded.append(rs.getObject(1, UUID.class), rs.getObject(2, UUID.class));
+        });
+        loaded.sort();
+        syncing.lock();
+        try {
+            lastChange = last != null ? last : 0;
+            apply(loaded, changesAfter(lastChange));
+            ready = true;
+        } finally {
+            syncing.unlock();
+        }
+        jdbcTemplate.update(DELETE_CHANGES, Timestamp.from(Instant.now().minus(retentionHours, ChronoUnit.HOURS)));
+        logger.info("Grafo de seguidores carregado: {} usuários, {} vínculos, ~{} KB",
+                loaded.users(), loaded.edges(), loaded.bytes() / 1024);
+    }
+
+    public void sync() {
+        if (!ready) return;
+        syncing.lock();
+        try {
+            apply(graph, changesAfter(lastChange));
+        } catch (DataAccessException exception) {
+            logger.warn("Falha ao sincronizar grafo de seguidores, nova tentativa no próximo ciclo: {}", exception.getMessage());
+        } finally {
+            syncing.unlock();
+        }
+    }
+
+    public boolean isMutual(UUID first, UUID second) {
+        if (!ready) return repository.existsMutualFollow(first, second);
+        lock.readLock().lock();
+        try {
+            return graph.follows(first, second) && graph.follows(second, first);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long memoryBytes() {
+        return (long) read(Adjacency::bytes);
+    }
+
+    private static final class Adjacency {
+
+        private static final int[] EMPTY = new int[0];
+
+        private long[] most = new long[64];
+        private long[] least = new long[64];
+        private int[] slots = new int[64];
+
+        private int[][] following = new int[16][];
+        private int[][] followers = new int[16][];
+        private int[] followingSizes = new int[16];
+        private int[] followersSizes = new int[16];
+
+        private int users;
+        private long edges;
+
+        private int slotOf(long msb, long lsb, long[] most, long[] least, int[] slots) {
+            int mask = slots.length - 1;
+            int hash = Long.hashCode(msb ^ lsb) * 0x9E3779B9;
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            while (slots[slot] != 0 && (most[slot] != msb || least[slot] != lsb)) slot = (slot + 1) & mask;
+            return slot;
+        }
+
+        private int find(UUID id) {
+            int slot = slotOf(id.getMostSignificantBits(), id.getLeastSignificantBits(), most, least, slots);
+            return slots[slot] - 1;
+        }
+
+        private void rehash() {
+            long[] newMost = new long[most.length * 2];
+            long[] newLeast = new long[least.length * 2];
+            int[] newSlots = new int[slots.length * 2];
+            for (int i = 0; i < slots.length; i++) {
+                if (slots[i] == 0) continue;
+                int slot = slotOf(most[i], least[i], newMost, newLeast, newSlots);
+                newMost[slot] = most[i];
+                newLeast[slot] = least[i];
+                newSlots[slot] = slots[i];
+            }
+            most = newMost;
+            least = newLeast;
+            slots = newSlots;
+        }
+
+        private int intern(UUID id) {
+            long msb = id.getMostSignificantBits();
+            long lsb = id.getLeastSignificantBits();
+            int slot = slotOf(msb, lsb, most, least, slots);
+            if (slots[slot] != 0) return slots[slot] - 1;
+            if (users == following.length) {
+                int capacity = users * 2;
+                following = Arrays.copyOf(following, capacity);
+                followers = Arrays.copyOf(followers, capacity);
+                followingSizes = Arrays.copyOf(followingSizes, capacity);
+                followersSizes = Arrays.copyOf(followersSizes, capacity);
+            }
+            int node = users++;
+            following[node] = EMPTY;
+            followers[node] = EMPTY;
+            most[slot] = msb;
+            least[slot] = lsb;
+            slots[slot] = node + 1;
+            if (users * 2 > slots.length) rehash();
+            return node;
+        }
+
+        private static int[] grow(int[] list, int size) {
+            return size < list.length ? list : Arrays.copyOf(list, Math.max(4, size + (size >> 1)));
+        }
+
+        private static boolean insert(int[][] lists, int[] sizes, int node, int value) {
+            int[] list = lists[node];
+            int size = sizes[node];
+            int at = Arrays.binarySearch(list, 0, size, value);
+            if (at >= 0) return false;
+            at = -at - 1;
+            int[] target = grow(list, size);
+            System.arraycopy(list, at, target, at + 1, size - at);
+            target[at] = value;
+            lists[node] = target;
+            sizes[node] = size + 1;
+            return true;
+        }
+
+        private static boolean delete(int[][] lists, int[] sizes, int node, int value) {
+            int[] list = lists[node];
+            int size = sizes[node];
+            int at = Arrays.binarySearch(list, 0, size, value);
+            if (at < 0) return false;
+            System.arraycopy(list, at + 1, list, at, size - at - 1);
+            sizes[node] = size - 1;
+            return true;
+        }
+
+        void append(UUID followerId, UUID followingId) {
+            int follower = intern(followerId);
+            int followed = intern(followingId);
+            following[follower] = grow(following[follower], followingSizes[follower]);
+            following[follower][followingSizes[follower]++] = followed;
+            followers[followed] = grow(followers[followed], followersSizes[followed]);
+            followers[followed][followersSizes[followed]++] = follower;
+            edges++;
+        }
+
+        void sort() {
+            for (int node = 0; node < users; node++) {
+                Arrays.sort(following[node], 0, followingSizes[node]);
+                Arrays.sort(followers[node], 0, followersSizes[node]);
+            }
+        }
+
+        boolean follows(UUID followerId, UUID followingId) {
+            int follower = find(followerId);
+            int followed = find(followingId);
+            if (follower < 0 || followed < 0) return false;
+            return Arrays.binarySearch(following[follower], 0, followingSizes[follower], followed) >= 0;
+        }
+
+        void link(UUID followerId, UUID followingId) {
+            int follower = intern(followerId);
+            int followed = intern(followingId);
+            if (insert(following, followingSizes, follower, followed)) {
+                insert(followers, followersSizes, followed, follower);
+                edges++;
+            }
+        }
+
+        void unlink(UUID followerId, UUID followingId) {
+            int follower = find(followerId);
+            int followed = find(followingId);
+            if (follower < 0 || followed < 0) return;
+            if (delete(following, followingSizes, follower, followed)) {
+                delete(followers, followersSizes, followed, follower);
+                edges--;
+            }
+        }
+
+        void isolate(UUID userId) {
+            int node = find(userId);
+            if (node < 0) return;
+            for (int i = 0; i < followersSizes[node]; i++) delete(following, followingSizes, followers[node][i], node);
+            for (int i = 0; i < followingSizes[node]; i++) delete(followers, followersSizes, following[node][i], node);
+            edges -= followersSizes[node] + followingSizes[node];
+            following[node] = EMPTY;
+            followers[node] = EMPTY;
+            followingSizes[node] = 0;
+            followersSizes[node] = 0;
+        }
+
+        int users() {
+            return users;
+        }
+
+        long edges() {
+            return edges;
+        }
+
+        long bytes() {
+            long total = slots.length * 20L + following.length * 16L;
+            for (int node = 0; node < users; node++) {
+                total += 32 + 4L * (following[node].length + followers[node].length);
+            }
+            return total;
+        }
+
+    }
+
+}
\ No newline at end of file
@@ -2,18 +2,28 @@ package br.com.notehub.application.implementation.follow;
 
 import br.com.notehub.application.counter.Counter;
 import br.com.notehub.application.dto.notification.MessageNotification;
-import br.com.notehub.domain.feed.FeedService;
+import br.com.notehub.application.dto.response.page.CursorRES;
+import br.com.notehub.application.dto.response.user.DetailUserRES;
 import br.com.notehub.domain.follow.Follow;
+import br.com.notehub.domain.follow.FollowCountAdjustmentRepository;
+import br.com.notehub.domain.follow.FollowCursor;
+import br.com.notehub.domain.follow.FollowGraphChange;
+import br.com.notehub.domain.follow.FollowGraphChangeRepository;
 import br.com.notehub.domain.follow.FollowRepository;
 import br.com.notehub.domain.follow.FollowService;
+import br.com.notehub.domain.follow.FollowSpec;
+import br.com.notehub.domain.follow.events.UserFollowedEvent;
+import br.com.notehub.domain.follow.events.UserUnfollowedEvent;
 import br.com.notehub.domain.notification.NotificationService;
 import br.com.notehub.domain.user.User;
 import br.com.notehub.domain.user.UserRepository;
 import jakarta.annotation.Nullable;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,9 +39,12 @@ public class FollowServiceImpl implements FollowService {
 
     private final UserRepository userRepository;
     private final FollowRepository repository;
+    private final FollowCountAdjustmentRepository adjustments;
+    private final FollowGraphChangeRepository graphChanges;
+    private final FollowGraph graph;
     private final Counter counter;
     private final NotificationService notifier;
-    private final FeedService feeder;
+    private final ApplicationEventPublisher eventPublisher;
 
     private User findUser(UUID id) {
         return userRepository.findById(id).orElseThrow(EntityNotFoundException::new);
@@ -45,17 +58,11 @@ public class FollowServiceImpl implements FollowService {
         return Objects.equals(followerId, followingId);
     }
 
-    private boolean areMutuals(UUID requesting, UUID requested) {
-        boolean requestedFollowsRequesting = repository.existsByFollowerIdAndFollowingId(requested, requesting);
-        boolean requestingFollowsRequested = repository.existsByFollowerIdAndFollowingId(requesting, requested);
-        return requestedFollowsRequesting && requestingFollowsRequested;
-    }
-
     @Override
     public void validateBidirectionalFollowAccess(@Nullable User requesting, User requested) {
         if (!requested.isProfilePrivate()) return;
         if (requesting == null) throw new AccessDeniedException("Não há vínculo bidirecional entre os usuários.");
-        if (!isSameUser(requesting.getId(), requested.getId()) && !areMutuals(requesting.getId(), requested.getId())) {
+        if (!isSameUser(requesting.getId(), requested.getId()) && !graph.isMutual(requesting.getId(), requested.getId())) {
             throw new AccessDeniedException("Não há vínculo bidirecional entre os usuários.");
         }
     }
@@ -68,9 +75,10 @@ public class FollowServiceImpl implements FollowService {
         if (Objects.equals(follower.getId(), following.getId())) throw new SelfFollowException();
         if (repository.existsByFollowerIdAndFollowingId(follower.getId(), following.getId())) throw new AlreadyFollowingException();
         repository.save(new Follow(follower, following));
+        graphChanges.save(new FollowGraphChange(follower.getId(), following.getId(), true));
         counter.updateFollowersAndFollowingCount(follower, following, true);
         notifier.notify(follower, following, follower, MessageNotification.of(follower));
-        feeder.onUserFollowed(follower.getId(), following.getId());
+        eventPublisher.publishEvent(new UserFollowedEvent(follower.getId(), following.getId()));
     }
 
     @Transactional
@@ -80,30 +88,54 @@ public class FollowServiceImpl implements FollowService {
         User following = findUser(username);
         if (!repository.existsByFollowerIdAndFollowingId(follower.getId(), following.getId())) throw new NotFollowingException();
         repository.deleteByFollowerIdAndFollowingId(follower.getId(), following.getId());
+        graphChanges.save(new FollowGraphChange(follower.getId(), following.getId(), false));
         counter.updateFollowersAndFollowingCount(follower, following, false);
-        feeder.onUserUnfollowed(follower.getId(), following.getId());
+        eventPublisher.publishEvent(new UserUnfollowedEvent(follower.getId(), following.getId()));
     }
 
-    @Override
-    public Page<User> getUserFollowing(Pageable pageable, String q, UUID requestingId, String username) {
+    private User findAccessible(UUID requestingId, String username) {
         User requesting = (requestingId != null) ? findUser(requestingId) : null;
         User requested = findUser(username);
         validateBidirectionalFollowAccess(requesting, requested);
-        List<UUID> ids = repository.findByFollowerId(requested.getId(), Pageable.unpaged())
-                .map(f -> f.getFollowing().getId())
-                .toList();
-        return userRepository.findAllByIdIn(pageable, q, ids);
+        return requested;
+    }
+
+    private CursorRES<DetailUserRES> scroll(FollowSpec.Side side, String cursor, int size, String q, UUID requestingId, String username) {
+        FollowCursor after = FollowCursor.decode(cursor);
+        int limit = Math.min(Math.max(size, 1), 100);
+        User requested = findAccessible(requestingId, username);
+        Specification<Follow> spec = Specification
+                .where(FollowSpec.ownedBy(side, requested.getId()))
+                .and(FollowSpec.listing(side, q))
+                .and(FollowSpec.before(side, after));
+        List<Follow> follows = repository.findBy(spec, query -> query.sortBy(side.newestFirst()).limit(limit + 1).all());
+        String next = follows.size() > limit ? FollowCursor.of(follows.get(limit - 1), side).encode() : null;
+        List<DetailUserRES> content = follows.stream().limit(limit).map(side::userOf).map(DetailUserRES::new).toList();
+        return new CursorRES<>(limit, next, content);
+    }
+
+    @Override
+    public Page<User> getUserFollowing(Pageable pageable, String q, UUID requestingId, String username) {
+        User requested = findAccessible(requestingId, username);
+        return userRepository.findAllFollowedBy(pageable, q, requested.getId());
     }
 
     @Override
     public Page<User> getUserFollowers(Pageable pageable, String q, UUID requestingId, String username) {
-        User requesting = (requestingId != null) ? findUser(requestingId) : null;
-        User requested = findUser(username);
-        validateBidirectionalFollowAccess(requesting, requested);
-        List<UUID> ids = repository.findByFollowingId(requested.getId(), Pageable.unpaged())
-                .map(f -> f.getFollower().getId())
-                .toList();
-        return userRepository.findAllByIdIn(pageable, q, ids);
+        User requested = findAccessible(requestingId, username);
+        return userRepository.findAllFollowersOf(pageable, q, requested.getId());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorRES<DetailUserRES> scrollUserFollowing(String cursor, int size, String q, UUID requestingId, String username) {
+        return scroll(FollowSpec.Side.FOLLOWING, cursor, size, q, requestingId, username);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorRES<DetailUserRES> scrollUserFollowers(String cursor, int size, String q, UUID requestingId, String username) {
+        return scroll(FollowSpec.Side.FOLLOWERS, cursor, size, q, requestingId, username);
     }
 
     @Override
@@ -121,13 +153,14 @@ public class FollowServiceImpl implements FollowService {
     }
 
     @Override
-    public Set<UUID> getUserFollowersId(UUID id) {
-        return repository.findFollowerIdsByFollowingId(id);
+    public void scheduleCountAdjustments(UUID deletedId) {
+        adjustments.scheduleFollowingDecrements(deletedId);
+        adjustments.scheduleFollowersDecrements(deletedId);
     }
 
     @Override
-    public Set<UUID> getUserFollowingId(UUID id) {
-        return repository.findFollowingIdsByFollowerId(id);
+    public void recordUserRemoval(UUID deletedId) {
+        graphChanges.save(new FollowGraphChange(deletedId, null, false));
     }
 
 }
\ No newline at end of file
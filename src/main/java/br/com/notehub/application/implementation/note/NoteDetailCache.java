@@ -0,0 +1,68 @@
+package br.com.notehub.application.implementation.note;
+
+import br.com.notehub.application.dto.response.note.DetailNoteRES;
+import br.com.notehub.domain.note.Note;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Component
+public class NoteDetailCache {
+
+    private static final int ENTRY_OVERHEAD = 512;
+
+    record Entry(DetailNoteRES detail, UUID authorId) {
+
+        static Entry of(Note note) {
+            return new Entry(new DetailNoteRES(note).withUser(null), note.getUser() != null ? note.getUser().getId() : null);
+        }
+
+        int weight() {
+            return ENTRY_OVERHEAD + length(detail.title()) + length(detail.description()) + length(detail.markdown())
+                    + detail.tags().stream().mapToInt(String::length).sum();
+        }
+
+        private static int length(String text) {
+            return text != null ? text.length() : 0;
+        }
+
+    }
+
+    private final Cache<UUID, Entry> cache;
+
+    public NoteDetailCache(
+            MeterRegistry registry,
+            @Value("${notes.cache.maximum-weight}") long maximumWeight,
+            @Value("${notes.cache.expire-after-write-minutes}") long expireAfterWriteMinutes
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((UUID id, Entry entry) -> entry.weight())
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, "notes.detail");
+    }
+
+    Optional<Entry> get(UUID id, Supplier<Optional<Note>> loader) {
+        return Optional.ofNullable(cache.get(id, key -> loader.get().map(Entry::of).orElse(null)));
+    }
+
+    public void evict(UUID id) {
+        cache.invalidate(id);
+    }
+
+    public void evictByAuthor(UUID authorId) {
+        cache.asMap().values().removeIf(entry -> Objects.equals(entry.authorId(), authorId));
+    }
+
+}
\ No newline at end of file
@@ -4,31 +4,48 @@ import br.com.notehub.application.counter.Counter;
 import br.com.notehub.application.dto.request.note.CreateNoteREQ;
 import br.com.notehub.application.dto.response.note.DetailNoteRES;
 import br.com.notehub.application.dto.response.note.LowDetailNoteRES;
+import br.com.notehub.application.dto.response.note.NoteSnippetRES;
 import br.com.notehub.application.dto.response.page.PageRES;
-import br.com.notehub.domain.feed.FeedService;
+import br.com.notehub.application.dto.response.user.DetailUserRES;
+import br.com.notehub.application.search.SearchHit;
+import br.com.notehub.application.search.SearchIndex;
 import br.com.notehub.domain.follow.FollowService;
 import br.com.notehub.domain.note.Note;
+import br.com.notehub.domain.note.NoteCounters;
 import br.com.notehub.domain.note.NoteRepository;
 import br.com.notehub.domain.note.NoteService;
+import br.com.notehub.domain.note.NoteTag;
+import br.com.notehub.domain.note.NoteTagUsage;
+import br.com.notehub.domain.note.NoteVersion;
+import br.com.notehub.domain.note.events.NoteCreatedEvent;
+import br.com.notehub.domain.note.events.NoteDeletedEvent;
+import br.com.notehub.domain.note.events.NoteEditedEvent;
+import br.com.notehub.domain.note.events.NoteHiddenEvent;
+import br.com.notehub.domain.note.events.NoteTagsChangedEvent;
+import br.com.notehub.domain.note.events.UserNotesDeletedEvent;
 import br.com.notehub.domain.tag.Tag;
 import br.com.notehub.domain.tag.TagRepository;
+import br.com.notehub.domain.tag.TagService;
 import br.com.notehub.domain.user.User;
 import br.com.notehub.domain.user.UserRepository;
+import br.com.notehub.infra.persistence.TwoPhasePager;
 import jakarta.annotation.Nullable;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -36,10 +53,19 @@ public class NoteServiceImpl implements NoteService {
 
     private final UserRepository userRepository;
     private final TagRepository tagRepository;
+    private final TagService tagService;
     private final NoteRepository repository;
     private final FollowService followService;
     private final Counter counter;
-    private final FeedService feeder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchIndex searchIndex;
+    private final NoteDetailCache detailCache;
+
+    @Value("${notes.search.mode}")
+    private String searchMode;
+
+    @Value("${notes.search.snippet-length}")
+    private int snippetLength;
 
     private void validateAccess(@Nullable UUID idFromToken, UUID idFromRequested) {
         if (idFromToken == null) throw new AccessDeniedException("Usuário sem permissão.");
@@ -48,37 +74,104 @@ public class NoteServiceImpl implements NoteService {
         }
     }
 
+    private void validateReadAccess(@Nullable UUID idFromToken, User author, boolean hidden) {
+        if (hidden) validateAccess(idFromToken, author.getId());
+        if (author.isProfilePrivate()) {
+            User requesting = (idFromToken != null) ? userRepository.findById(idFromToken).orElseThrow(EntityNotFoundException::new) : null;
+            followService.validateBidirectionalFollowAccess(requesting, author);
+        }
+    }
+
     private void deleteNoteAndFlush(Note note) {
         repository.delete(note);
         repository.flush();
     }
 
-    private void removeOrphanTags(List<String> names) {
-        List<Tag> tags = tagRepository.findAllByNameIn(names);
-        tags.stream().filter(tag -> tag.getNotes().isEmpty()).forEach(tagRepository::delete);
+    private List<String> publicTags(Note note) {
+        if (note.isHidden() || note.getTags() == null) return List.of();
+        return note.getTags().stream().map(Tag::getName).toList();
     }
 
-    private List<Tag> findOrCreateTags(List<String> tags) {
-        if (tags == null) return null;
-        List<Tag> immutableList = tags.stream()
-                .map(String::toLowerCase).distinct()
-                .map(tag -> tagRepository.findByName(tag).orElseGet(() -> new Tag(tag.toLowerCase())))
-                .toList();
-        return new ArrayList<>(immutableList);
+    private void publishTagsChanged(Note note, List<String> before, List<String> after) {
+        if (!before.equals(after)) eventPublisher.publishEvent(new NoteTagsChangedEvent(before, after, note.getCreatedAt()));
     }
 
     private void changeField(UUID idFromToken, UUID idFromPath, Consumer<Note> setter) {
         Note note = repository.findById(idFromPath).orElseThrow(EntityNotFoundException::new);
         validateAccess(idFromToken, note.getUser().getId());
+        List<String> tagsBefore = publicTags(note);
         setter.accept(note);
         note.setModifiedAt(Instant.now());
         note.setModified(true);
         repository.saveAndFlush(note);
+        eventPublisher.publishEvent(new NoteEditedEvent(note.getId()));
+        publishTagsChanged(note, tagsBefore, publicTags(note));
+    }
+
+    private String toTextQuery(String q) {
+        if (!Objects.equals(searchMode, "fts") || q == null) return null;
+        String query = Arrays.stream(q.toLowerCase().split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isBlank())
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+        return query.isEmpty() ? null : query;
+    }
+
+    private List<LowDetailNoteRES> findSummaries(Collection<UUID> ids) {
+        Map<UUID, List<String>> tags = repository.findTagsByNoteIdIn(ids).stream()
+                .collect(Collectors.groupingBy(NoteTag::noteId, Collectors.mapping(NoteTag::name, Collectors.toList())));
+        return repository.findSummariesByIdIn(ids).stream()
+                .map(summary -> new LowDetailNoteRES(summary, tags.getOrDefault(summary.id(), List.of())))
+                .toList();
+    }
+
+    private PageRES<LowDetailNoteRES> toPage(Page<UUID> ids) {
+        return new PageRES<>(TwoPhasePager.page(ids, this::findSummaries, LowDetailNoteRES::id));
+    }
+
+    private boolean useIndex(String q) {
+        return q != null && searchIndex.isEnabled();
+    }
+
+    private Page<UUID> ids(Page<SearchHit> hits) {
+        return hits.map(SearchHit::id);
+    }
+
+    private Pageable unsorted(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+    }
+
+    private Page<UUID> findPublicNoteIds(Pageable pageable, String q) {
+        if (useIndex(q)) return ids(searchIndex.searchPublicNotes(pageable, q));
+        String query = toTextQuery(q);
+        return query != null
+                ? repository.rankPublicNotesByText(unsorted(pageable), query)
+                : repository.searchPublicNoteIdsByTitleOrDescription(pageable, q);
+    }
+
+    private Page<UUID> findPrivateNoteIds(Pageable pageable, UUID idFromToken, String q) {
+        if (useIndex(q)) return ids(searchIndex.searchPrivateNotes(pageable, idFromToken, q));
+        String query = toTextQuery(q);
+        return query != null
+                ? repository.rankPrivateNotesByText(unsorted(pageable), idFromToken, query)
+                : repository.searchPrivateNoteIdsByTitleOrTag(pageable, idFromToken, q);
+    }
+
+    private PageRES<NoteSnippetRES> toSnippets(Page<UUID> ids, String q) {
+        List<String> terms = NoteSnippets.terms(q);
+        List<String> window = NoteSnippets.windowTerms(q);
+        return new PageRES<>(TwoPhasePager.page(
+                ids,
+                page -> repository.findExcerptsByIdIn(page, window.get(0), window.get(1), window.get(2), snippetLength / 3, snippetLength).stream()
+                        .map(excerpt -> NoteSnippets.of(excerpt, terms, snippetLength))
+                        .toList(),
+                NoteSnippetRES::id
+        ));
     }
 
     public Note mapToNote(UUID idFromToken, CreateNoteREQ req) {
         User user = userRepository.findById(idFromToken).orElseThrow(EntityNotFoundException::new);
-        List<Tag> tags = findOrCreateTags(req.tags());
+        List<Tag> tags = tagService.findOrCreate(req.tags());
         return new Note(user, req.title(), req.description(), req.markdown(), req.closed(), req.hidden(), tags);
     }
 
@@ -88,7 +181,8 @@ public class NoteServiceImpl implements NoteService {
         Note note = mapToNote(idFromToken, req);
         repository.save(note);
         counter.updateNotesCount(note.getUser(), true);
-        feeder.onNoteCreated(note.getId());
+        eventPublisher.publishEvent(new NoteCreatedEvent(note.getId()));
+        publishTagsChanged(note, List.of(), publicTags(note));
         return new LowDetailNoteRES(note);
     }
 
@@ -96,15 +190,13 @@ public class NoteServiceImpl implements NoteService {
     @Override
     public void edit(UUID idFromToken, UUID idFromPath, String title, String description, List<String> tags, boolean closed, boolean hidden) {
         changeField(idFromToken, idFromPath, note -> {
-            List<String> oldTags = note.getTags().stream().map(Tag::getName).toList();
             note.setTitle(title);
             note.setDescription(description);
-            note.setTags(findOrCreateTags(tags));
+            note.setTags(tagService.findOrCreate(tags));
             note.setClosed(closed);
             note.setHidden(hidden);
-            removeOrphanTags(oldTags);
         });
-        feeder.onNoteHidden(idFromPath);
+        eventPublisher.publishEvent(new NoteHiddenEvent(idFromPath));
     }
 
     @Transactional
@@ -135,17 +227,13 @@ public class NoteServiceImpl implements NoteService {
     @Override
     public void changeHidden(UUID idFromToken, UUID idFromPath) {
         changeField(idFromToken, idFromPath, note -> note.setHidden(!note.isHidden()));
-        feeder.onNoteHidden(idFromPath);
+        eventPublisher.publishEvent(new NoteHiddenEvent(idFromPath));
     }
 
     @Transactional
     @Override
     public void changeTags(UUID idFromToken, UUID idFromPath, List<String> tags) {
-        changeField(idFromToken, idFromPath, note -> {
-            List<String> oldTagNames = note.getTags().stream().map(Tag::getName).toList();
-            note.setTags(findOrCreateTags(tags));
-            removeOrphanTags(oldTagNames);
-        });
+        changeField(idFromToken, idFromPath, note -> note.setTags(tagService.findOrCreate(tags)));
     }
 
     @Transactional
@@ -153,33 +241,38 @@ public class NoteServiceImpl implements NoteService {
     public void delete(UUID idFromToken, UUID idFromPath) {
         Note note = repository.findById(idFromPath).orElseThrow(EntityNotFoundException::new);
         validateAccess(idFromToken, note.getUser().getId());
-        List<String> oldTagNames = note.getTags().stream().map(Tag::getName).toList();
+        List<String> tagsBefore = publicTags(note);
         deleteNoteAndFlush(note);
-        removeOrphanTags(oldTagNames);
         counter.updateNotesCount(note.getUser(), false);
+        eventPublisher.publishEvent(new NoteDeletedEvent(idFromPath));
+        publishTagsChanged(note, tagsBefore, List.of());
     }
 
     @Transactional
     @Override
     public void deleteAllUserNotes(User user) {
-        List<String> tags = tagRepository.findAllByNotesUserId(user.getId()).stream().map(Tag::getName).toList();
+        // Lidas antes da exclusão, para que estatísticas e índice de tags descontem cada nota pública removida.
+        Map<UUID, List<NoteTagUsage>> usages = repository.findPublicTagUsagesByUserId(user.getId()).stream()
+                .collect(Collectors.groupingBy(NoteTagUsage::noteId));
         repository.deleteAllByUserId(user.getId());
         repository.flush();
-        removeOrphanTags(tags);
+        eventPublisher.publishEvent(new UserNotesDeletedEvent(user.getId()));
+        usages.values().forEach(tags -> eventPublisher.publishEvent(new NoteTagsChangedEvent(
+                tags.stream().map(NoteTagUsage::name).toList(), List.of(), tags.get(0).createdAt()
+        )));
     }
 
     @Transactional
     @Override
     public void deleteAllUserHiddenNotes(User user) {
-        List<String> tags = tagRepository.findAllByNotesUserIdAndNotesHiddenTrue(user.getId()).stream().map(Tag::getName).toList();
         repository.deleteAllByUserIdAndHiddenTrue(user.getId());
         repository.flush();
-        removeOrphanTags(tags);
+        eventPublisher.publishEvent(new UserNotesDeletedEvent(user.getId()));
     }
 
     @Override
     public List<String> getAllTags() {
-        return tagRepository.findAll().stream().map(Tag::getName).toList();
+        return tagService.getAllNames();
     }
 
     @Transactional(readOnly = true)
@@ -198,26 +291,32 @@ public class NoteServiceImpl implements NoteService {
 
     @Override
     public PageRES<LowDetailNoteRES> findPublicNotes(Pageable pageable, String q) {
-        Page<LowDetailNoteRES> page = repository.searchPublicNotesByTitleOrDescription(pageable, q).map(LowDetailNoteRES::new);
-        return new PageRES<>(page);
+        return toPage(findPublicNoteIds(pageable, q));
     }
 
     @Override
     public PageRES<LowDetailNoteRES> findPrivateNotes(Pageable pageable, UUID idFromToken, String q) {
-        Page<LowDetailNoteRES> page = repository.searchPrivateNotesByTitleOrTag(pageable, idFromToken, q).map(LowDetailNoteRES::new);
-        return new PageRES<>(page);
+        return toPage(findPrivateNoteIds(pageable, idFromToken, q));
+    }
+
+    @Override
+    public PageRES<NoteSnippetRES> findPublicNoteSnippets(Pageable pageable, String q) {
+        return toSnippets(findPublicNoteIds(pageable, q), q);
+    }
+
+    @Override
+    public PageRES<NoteSnippetRES> findPrivateNoteSnippets(Pageable pageable, UUID idFromToken, String q) {
+        return toSnippets(findPrivateNoteIds(pageable, idFromToken, q), q);
     }
 
     @Override
     public PageRES<LowDetailNoteRES> findPublicNotesByTag(Pageable pageable, String tag) {
-        Page<LowDetailNoteRES> page = repository.searchPublicNotesByTag(pageable, tag).map(LowDetailNoteRES::new);
-        return new PageRES<>(page);
+        return toPage(repository.searchPublicNoteIdsByTag(pageable, tag));
     }
 
     @Override
     public PageRES<LowDetailNoteRES> findPrivateNotesByTag(Pageable pageable, UUID idFromToken, String tag) {
-        Page<LowDetailNoteRES> page = repository.searchPrivateNotesByTag(pageable, idFromToken, tag).map(LowDetailNoteRES::new);
-        return new PageRES<>(page);
+        return toPage(repository.searchPrivateNoteIdsByTag(pageable, idFromToken, tag));
     }
 
     @Transactional(readOnly = true)
@@ -227,34 +326,56 @@ public class NoteServiceImpl implements NoteService {
         User requested = userRepository.findByUsername(username).orElseThrow(EntityNotFoundException::new);
         if (Objects.equals(type, "hidden")) validateAccess(idFromToken, requested.getId());
         if (requested.isProfilePrivate()) followService.validateBidirectionalFollowAccess(requesting, requested);
-        Page<LowDetailNoteRES> page = repository.searchUserNotesBySpecs(pageable, username, q, tag, type).map(LowDetailNoteRES::new);
-        return new PageRES<>(page);
+        if (useIndex(q) && tag == null) return toPage(ids(searchIndex.searchUserNotes(pageable, username, q, type)));
+        String query = toTextQuery(q);
+        Page<UUID> ids = query != null
+                ? repository.rankUserNotesByText(unsorted(pageable), username, query, tag, type)
+                : repository.searchUserNoteIdsBySpecs(pageable, username, q, tag, type);
+        return toPage(ids);
     }
 
     @Transactional(readOnly = true)
     @Override
-    public DetailNoteRES getNote(UUID idFromToken, UUID idFromPath) {
-        User requesting = (idFromToken != null) ? userRepository.findById(idFromToken).orElseThrow(EntityNotFoundException::new) : null;
-        Note requested = repository.findNote(idFromPath).orElseThrow(EntityNotFoundException::new);
-        User author = requested.getUser();
-        if (author != null) {
-            if (requested.isHidden()) validateAccess(idFromToken, author.getId());
-            if (author.isProfilePrivate()) followService.validateBidirectionalFollowAccess(requesting, author);
+    public NoteVersion getNoteVersion(UUID idFromToken, UUID idFromPath) {
+        NoteVersion version = repository.findVersion(idFromPath).orElseThrow(EntityNotFoundException::new);
+        if (version.authorId() != null && (version.hidden() || Boolean.TRUE.equals(version.authorPrivate()))) {
+            User author = userRepository.findById(version.authorId()).orElseThrow(EntityNotFoundException::new);
+            validateReadAccess(idFromToken, author, version.hidden());
         }
-        return new DetailNoteRES(requested);
+        return version;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public DetailNoteRES getNote(UUID idFromToken, UUID idFromPath) {
+        return getNote(getNoteVersion(idFromToken, idFromPath));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public DetailNoteRES getNote(UUID idFromToken, UUID idFromPath, Predicate<NoteVersion> notModified) {
+        NoteVersion version = getNoteVersion(idFromToken, idFromPath);
+        return notModified.test(version) ? null : getNote(version);
+    }
+
+    private DetailNoteRES getNote(NoteVersion version) {
+        NoteDetailCache.Entry requested = detailCache.get(version.id(), () -> repository.findNote(version.id())).orElseThrow(EntityNotFoundException::new);
+        User author = (requested.authorId() != null) ? userRepository.findById(requested.authorId()).orElse(null) : null;
+        // Os contadores mudam a cada comentário ou chama; o cache guarda só o conteúdo e eles são lidos na hora.
+        NoteCounters counters = repository.findCounters(version.id()).orElseThrow(EntityNotFoundException::new);
+        return requested.detail()
+                .withUser(author != null ? new DetailUserRES(author) : null)
+                .withCounters(counters.commentsCount(), counters.flamesCount());
     }
 
     @Override
     public PageRES<LowDetailNoteRES> getAllUserNotesByUsername(Pageable pageable, String username) {
-        Page<Note> notes = repository.findAllByUserProfilePrivateFalseAndUserUsernameAndHiddenFalse(pageable, username.toLowerCase());
-        Page<LowDetailNoteRES> page = notes.map(LowDetailNoteRES::new);
-        return new PageRES<>(page);
+        return toPage(repository.findIdsByUserProfilePrivateFalseAndUserUsernameAndHiddenFalse(pageable, username.toLowerCase()));
     }
 
     @Override
     public PageRES<LowDetailNoteRES> getAllUserNotesById(Pageable pageable, UUID idFromToken) {
-        Page<LowDetailNoteRES> page = repository.findAllByUserId(pageable, idFromToken).map(LowDetailNoteRES::new);
-        return new PageRES<>(page);
+        return toPage(repository.findIdsByUserId(pageable, idFromToken));
     }
 
     @Override
@@ -262,8 +383,7 @@ public class NoteServiceImpl implements NoteService {
         User requesting = userRepository.findById(idFromToken).orElseThrow(EntityNotFoundException::new);
         User requested = userRepository.findByUsername(username).orElseThrow(EntityNotFoundException::new);
         if (requested.isProfilePrivate()) followService.validateBidirectionalFollowAccess(requesting, requested);
-        Page<LowDetailNoteRES> page = repository.findAllByUserUsernameAndHiddenFalse(pageable, username).map(LowDetailNoteRES::new);
-        return new PageRES<>(page);
+        return toPage(repository.findIdsByUserUsernameAndHiddenFalse(pageable, username));
     }
 
 }
\ No newline at end of file
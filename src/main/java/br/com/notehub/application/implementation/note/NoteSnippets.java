@@ -0,0 +1,90 @@
+package br.com.notehub.application.implementation.note;
+
+import br.com.notehub.application.dto.response.note.NoteSnippetRES;
+import br.com.notehub.domain.note.NoteExcerpt;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.stream.Collectors;
+
+final class NoteSnippets {
+
+    private NoteSnippets() {
+    }
+
+    static List<String> terms(String q) {
+        if (q == null) return List.of();
+        return Arrays.stream(fold(q).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isBlank())
+                .distinct()
+                .toList();
+    }
+
+    // A consulta de trechos procura até três termos já normalizados; os que faltam repetem o primeiro.
+    static List<String> windowTerms(String q) {
+        List<String> terms = terms(q).stream()
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .limit(3)
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (terms.isEmpty()) terms.add("");
+        while (terms.size() < 3) terms.add(terms.get(0));
+        return terms;
+    }
+
+    // Normaliza caractere a caractere para que as posições no texto normalizado continuem valendo no original.
+    private static String fold(String text) {
+        StringBuilder folded = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            folded.append(Character.toLowerCase(decomposed.isEmpty() ? c : decomposed.charAt(0)));
+        }
+        return folded.toString();
+    }
+
+    private static int firstMatch(String folded, List<String> terms) {
+        return terms.stream().mapToInt(folded::indexOf).filter(i -> i >= 0).min().orElse(-1);
+    }
+
+    private static List<NoteSnippetRES.Highlight> highlights(String snippet, List<String> terms) {
+        String folded = fold(snippet);
+        List<NoteSnippetRES.Highlight> found = new ArrayList<>();
+        for (String term : terms) {
+            for (int i = folded.indexOf(term); i >= 0; i = folded.indexOf(term, i + term.length())) {
+                found.add(new NoteSnippetRES.Highlight(i, i + term.length()));
+            }
+        }
+        found.sort(Comparator.comparingInt(NoteSnippetRES.Highlight::start));
+        List<NoteSnippetRES.Highlight> merged = new ArrayList<>();
+        for (NoteSnippetRES.Highlight highlight : found) {
+            NoteSnippetRES.Highlight last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && highlight.start() <= last.end()) {
+                merged.set(merged.size() - 1, new NoteSnippetRES.Highlight(last.start(), Math.max(last.end(), highlight.end())));
+            } else {
+                merged.add(highlight);
+            }
+        }
+        return merged;
+    }
+
+    private static NoteSnippetRES snippet(NoteExcerpt excerpt, String field, String text, int start, int length, List<String> terms) {
+        String snippet = text.substring(start, Math.min(text.length(), start + length));
+        return new NoteSnippetRES(excerpt.id(), excerpt.title(), field, snippet, highlights(snippet, terms));
+    }
+
+    static NoteSnippetRES of(NoteExcerpt excerpt, List<String> terms, int length) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("title", excerpt.title());
+        fields.put("description", excerpt.description());
+        fields.put("markdown", excerpt.markdown());
+        fields.values().removeIf(Objects::isNull);
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            int match = firstMatch(fold(field.getValue()), terms);
+            if (match < 0) continue;
+            int start = field.getKey().equals("markdown") ? 0 : Math.max(0, match - length / 3);
+            return snippet(excerpt, field.getKey(), field.getValue(), start, length, terms);
+        }
+        String fallback = fields.containsKey("description") ? "description" : fields.containsKey("markdown") ? "markdown" : "title";
+        return snippet(excerpt, fallback, fields.getOrDefault(fallback, ""), 0, length, terms);
+    }
+
+}
\ No newline at end of file
@@ -6,9 +6,11 @@ import br.com.notehub.application.dto.response.page.PageRES;
 import br.com.notehub.domain.notification.Notification;
 import br.com.notehub.domain.notification.NotificationRepository;
 import br.com.notehub.domain.notification.NotificationService;
+import br.com.notehub.domain.notification.events.NotificationCreatedEvent;
 import br.com.notehub.domain.user.User;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -23,13 +25,15 @@ import java.util.UUID;
 public class NotificationServiceImpl implements NotificationService {
 
     private final NotificationRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
     public void notify(User from, User to, User related, MessageNotification message) {
         if (to == null) return;
         if (Objects.equals(from.getId(), to.getId())) return;
-        repository.save(new Notification(from, to, related, message.info()));
+        Notification notification = repository.save(new Notification(from, to, related, message.info()));
+        eventPublisher.publishEvent(new NotificationCreatedEvent(to.getId(), new DetailNotificationRES(notification)));
     }
 
     @Transactional
@@ -0,0 +1,199 @@
+package br.com.notehub.application.implementation.stream;
+
+import br.com.notehub.adapter.producer.StreamProducer;
+import br.com.notehub.adapter.producer.dto.StreamDTO;
+import br.com.notehub.domain.stream.StreamService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@RequiredArgsConstructor
+public class StreamServiceImpl implements StreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamServiceImpl.class);
+
+    private static final String RESYNC = "resync";
+
+    private final StreamProducer producer;
+    private final ObjectMapper mapper;
+
+    private final Map<UUID, Channel> channels = new ConcurrentHashMap<>();
+
+    @Value("${stream.timeout-ms}")
+    private long timeout;
+
+    @Value("${stream.replay-size}")
+    private int replaySize;
+
+    @Value("${stream.replay-ttl-ms}")
+    private long replayTtl;
+
+    private record Message(UUID id, String type, String data) {
+    }
+
+    private static class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+    }
+
+    private static class Channel {
+
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final Deque<Message> replay = new ArrayDeque<>();
+        private volatile long lastSeen = System.currentTimeMillis();
+
+        private List<Message> since(String lastEventId) {
+            if (lastEventId == null || lastEventId.isBlank()) return List.of();
+            List<Message> missed = new ArrayList<>();
+            Iterator<Message> it = replay.descendingIterator();
+            while (it.hasNext()) {
+                Message message = it.next();
+                if (message.id().toString().equals(lastEventId)) {
+                    Collections.reverse(missed);
+                    return missed;
+                }
+                missed.add(message);
+            }
+            return null;
+        }
+
+        private void detach(Subscriber subscriber) {
+            subscribers.remove(subscriber);
+            lastSeen = System.currentTimeMillis();
+        }
+
+    }
+
+    private boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException exception) {
+            emitter.completeWithError(exception);
+            return false;
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toEvent(Message message) {
+        return SseEmitter.event().id(message.id().toString()).name(message.type()).data(message.data());
+    }
+
+    private void enqueue(Channel channel, Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.size.incrementAndGet() > replaySize + 1) {
+            // Cliente lento demais: ele reconecta com o Last-Event-ID e recebe o que faltou do replay.
+            if (channel.subscribers.remove(subscriber)) subscriber.emitter.complete();
+            return;
+        }
+        subscriber.pending.add(event);
+    }
+
+    private void drain(Channel channel, Subscriber subscriber) {
+        while (!subscriber.pending.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while ((event = subscriber.pending.poll()) != null) {
+                    subscriber.size.decrementAndGet();
+                    if (!send(subscriber.emitter, event)) {
+                        channel.detach(subscriber);
+                        subscriber.pending.clear();
+                        return;
+                    }
+                }
+            } finally {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    @Override
+    public SseEmitter subscribe(UUID userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout);
+        Subscriber subscriber = new Subscriber(emitter);
+        Channel channel = channels.compute(userId, (id, current) -> {
+            Channel target = current == null ? new Channel() : current;
+            synchronized (target) {
+                List<Message> missed = target.since(lastEventId);
+                if (missed == null) enqueue(target, subscriber, SseEmitter.event().name(RESYNC).data(RESYNC));
+                else missed.forEach(message -> enqueue(target, subscriber, toEvent(message)));
+                target.subscribers.add(subscriber);
+            }
+            return target;
+        });
+        Runnable detach = () -> channel.detach(subscriber);
+        emitter.onCompletion(detach);
+        emitter.onTimeout(detach);
+        emitter.onError(error -> detach.run());
+        drain(channel, subscriber);
+        return emitter;
+    }
+
+    @Override
+    public void publish(Collection<UUID> userIds, String type, Object data) {
+        if (userIds.isEmpty()) return;
+        StreamDTO message;
+        try {
+            message = new StreamDTO(UUID.randomUUID(), List.copyOf(userIds), type, mapper.writeValueAsString(data));
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        try {
+            producer.publishStreamMessage(message);
+        } catch (AmqpException exception) {
+            logger.warn("Falha ao difundir evento {} do stream, entregando apenas localmente: {}", message.id(), exception.getMessage());
+            deliver(message.id(), message.userIds(), message.type(), message.data());
+        }
+    }
+
+    @Override
+    public void deliver(UUID eventId, Collection<UUID> userIds, String type, String data) {
+        Message message = new Message(eventId, type, data);
+        for (UUID userId : userIds) {
+            Channel channel = channels.get(userId);
+            if (channel == null) continue;
+            List<Subscriber> targets;
+            synchronized (channel) {
+                channel.replay.addLast(message);
+                while (channel.replay.size() > replaySize) channel.replay.removeFirst();
+                channel.subscribers.forEach(subscriber -> enqueue(channel, subscriber, toEvent(message)));
+                targets = List.copyOf(channel.subscribers);
+            }
+            targets.forEach(subscriber -> drain(channel, subscriber));
+        }
+    }
+
+    @Override
+    public void heartbeat() {
+        long expired = System.currentTimeMillis() - replayTtl;
+        channels.forEach((userId, channel) -> {
+            for (Subscriber subscriber : List.copyOf(channel.subscribers)) {
+                enqueue(channel, subscriber, SseEmitter.event().comment("ping"));
+                drain(channel, subscriber);
+            }
+            channels.computeIfPresent(userId, (id, current) -> current.subscribers.isEmpty() && current.lastSeen < expired ? null : current);
+        });
+    }
+
+}
\ No newline at end of file
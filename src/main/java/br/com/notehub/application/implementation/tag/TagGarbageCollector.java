@@ -0,0 +1,118 @@
+package br.com.notehub.application.implementation.tag;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Component
+@RequiredArgsConstructor
+public class TagGarbageCollector {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagGarbageCollector.class);
+
+    private static final String UNMARK_REUSED = """
+            UPDATE tags SET orphaned_at = NULL
+            WHERE orphaned_at IS NOT NULL
+            AND EXISTS (SELECT 1 FROM note_tags nt WHERE nt.tag_id = tags.id)
+            """;
+
+    private static final String MARK_ORPHANS = """
+            UPDATE tags SET orphaned_at = :now
+            WHERE id IN (
+                SELECT t.id FROM tags t
+                WHERE t.orphaned_at IS NULL
+                AND NOT EXISTS (SELECT 1 FROM note_tags nt WHERE nt.tag_id = t.id)
+                LIMIT :limit
+            )
+            """;
+
+    private static final String SELECT_EXPIRED = """
+            SELECT t.id, t.name FROM tags t
+            WHERE t.orphaned_at < :before
+            AND NOT EXISTS (SELECT 1 FROM note_tags nt WHERE nt.tag_id = t.id)
+            LIMIT :limit
+            """;
+
+    private static final String DELETE_ORPHANS = """
+            DELETE FROM tags
+            WHERE id IN (
+                SELECT t.id FROM tags t
+                WHERE t.id IN (:ids)
+                AND t.orphaned_at < :before
+                AND NOT EXISTS (SELECT 1 FROM note_tags nt WHERE nt.tag_id = t.id)
+                FOR UPDATE SKIP LOCKED
+            )
+            """;
+
+    private static final String SELECT_SURVIVORS = "SELECT name FROM tags WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry registry;
+
+    @Value("${tags.gc.chunk-size}")
+    private int chunkSize;
+
+    @Value("${tags.gc.grace-minutes}")
+    private long graceMinutes;
+
+    private long mark(Instant now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("now", Timestamp.from(now))
+                .addValue("limit", chunkSize);
+        long marked = 0;
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> jdbcTemplate.update(MARK_ORPHANS, params));
+            marked += chunk;
+        } while (chunk == chunkSize);
+        return marked;
+    }
+
+    private long sweep(Instant before, Consumer<List<String>> onReclaimed) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("before", Timestamp.from(before))
+                .addValue("limit", chunkSize);
+        long reclaimed = 0;
+        while (true) {
+            List<Map<String, Object>> expired = jdbcTemplate.queryForList(SELECT_EXPIRED, params);
+            if (expired.isEmpty()) break;
+            List<UUID> ids = expired.stream().map(row -> (UUID) row.get("id")).toList();
+            MapSqlParameterSource chunkParams = new MapSqlParameterSource("ids", ids).addValue("before", params.getValue("before"));
+            List<String> survivors = transactionTemplate.execute(status -> {
+                jdbcTemplate.update(DELETE_ORPHANS, chunkParams);
+                return jdbcTemplate.queryForList(SELECT_SURVIVORS, chunkParams, String.class);
+            });
+            // Tags travadas por uma escrita de nota ou reutilizadas desde a seleção continuam no banco e no dicionário.
+            List<String> names = expired.stream().map(row -> (String) row.get("name")).filter(name -> !survivors.contains(name)).toList();
+            onReclaimed.accept(names);
+            if (!names.isEmpty()) registry.counter("tags.gc.reclaimed").increment(names.size());
+            reclaimed += names.size();
+            if (expired.size() < chunkSize) break;
+        }
+        return reclaimed;
+    }
+
+    public void run(Consumer<List<String>> onReclaimed) {
+        Instant now = Instant.now();
+        int reused = transactionTemplate.execute(status -> jdbcTemplate.update(UNMARK_REUSED, Map.of()));
+        long reclaimed = sweep(now.minus(graceMinutes, ChronoUnit.MINUTES), onReclaimed);
+        long marked = mark(now);
+        logger.info("Coleta de tags órfãs concluída: {} removidas, {} marcadas, {} reutilizadas", reclaimed, marked, reused);
+    }
+
+}
\ No newline at end of file
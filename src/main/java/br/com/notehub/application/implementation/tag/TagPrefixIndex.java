@@ -0,0 +1,110 @@
+package br.com.notehub.application.implementation.tag;
+
+import br.com.notehub.domain.tag.TagCount;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+@Component
+public class TagPrefixIndex {
+
+    private record Snapshot(String[] names, AtomicIntegerArray usage) {
+    }
+
+    private volatile Snapshot snapshot = new Snapshot(new String[0], new AtomicIntegerArray(0));
+
+    private static int position(String[] names, String name) {
+        return Arrays.binarySearch(names, name);
+    }
+
+    private static int lowerBound(String[] names, String prefix) {
+        int position = position(names, prefix);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    private void adjust(Snapshot current, Collection<String> names, int delta) {
+        for (String name : names) {
+            int position = position(current.names(), name);
+            if (position < 0) continue;
+            current.usage().set(position, Math.max(0, current.usage().get(position) + delta));
+        }
+    }
+
+    public synchronized void rebuild(Collection<String> names, Collection<TagCount> counts) {
+        String[] sorted = new TreeSet<>(names).toArray(String[]::new);
+        AtomicIntegerArray usage = new AtomicIntegerArray(sorted.length);
+        for (TagCount count : counts) {
+            int position = position(sorted, count.name());
+            if (position >= 0) usage.set(position, (int) count.count());
+        }
+        snapshot = new Snapshot(sorted, usage);
+    }
+
+    public synchronized void add(Collection<String> names) {
+        Snapshot current = snapshot;
+        String[] added = names.stream().filter(name -> position(current.names(), name) < 0).distinct().sorted().toArray(String[]::new);
+        if (added.length == 0) return;
+        int size = current.names().length + added.length;
+        String[] merged = new String[size];
+        AtomicIntegerArray usage = new AtomicIntegerArray(size);
+        int i = 0, j = 0;
+        for (int k = 0; k < size; k++) {
+            if (j >= added.length || (i < current.names().length && current.names()[i].compareTo(added[j]) < 0)) {
+                merged[k] = current.names()[i];
+                usage.set(k, current.usage().get(i++));
+            } else {
+                merged[k] = added[j++];
+            }
+        }
+        snapshot = new Snapshot(merged, usage);
+    }
+
+    public synchronized void remove(Collection<String> names) {
+        Snapshot current = snapshot;
+        Set<String> removed = new HashSet<>(names);
+        int size = (int) Arrays.stream(current.names()).filter(name -> !removed.contains(name)).count();
+        if (size == current.names().length) return;
+        String[] kept = new String[size];
+        AtomicIntegerArray usage = new AtomicIntegerArray(size);
+        for (int i = 0, k = 0; i < current.names().length; i++) {
+            if (removed.contains(current.names()[i])) continue;
+            kept[k] = current.names()[i];
+            usage.set(k++, current.usage().get(i));
+        }
+        snapshot = new Snapshot(kept, usage);
+    }
+
+    public synchronized void record(Collection<String> before, Collection<String> after) {
+        Snapshot current = snapshot;
+        adjust(current, before.stream().filter(name -> !after.contains(name)).toList(), -1);
+        adjust(current, after.stream().filter(name -> !before.contains(name)).toList(), 1);
+    }
+
+    public List<String> complete(String prefix, int limit) {
+        Snapshot current = snapshot;
+        String[] names = current.names();
+        AtomicIntegerArray usage = current.usage();
+        String from = prefix.toLowerCase();
+        int[] best = new int[limit];
+        int found = 0;
+        for (int i = lowerBound(names, from); i < names.length && names[i].startsWith(from); i++) {
+            int count = usage.get(i);
+            if (found == limit && count <= usage.get(best[found - 1])) continue;
+            int slot = found < limit ? found++ : found - 1;
+            while (slot > 0 && usage.get(best[slot - 1]) < count) {
+                best[slot] = best[slot - 1];
+                slot--;
+            }
+            best[slot] = i;
+        }
+        List<String> completions = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) completions.add(names[best[i]]);
+        return completions;
+    }
+
+    public int size() {
+        return snapshot.names().length;
+    }
+
+}
\ No newline at end of file
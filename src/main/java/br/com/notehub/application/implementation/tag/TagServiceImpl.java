@@ -0,0 +1,139 @@
+package br.com.notehub.application.implementation.tag;
+
+import br.com.notehub.application.dto.response.tag.TagStatsRES;
+import br.com.notehub.domain.tag.Tag;
+import br.com.notehub.domain.tag.TagCount;
+import br.com.notehub.domain.tag.TagRepository;
+import br.com.notehub.domain.tag.TagService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+public class TagServiceImpl implements TagService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagServiceImpl.class);
+
+    private final TagRepository repository;
+    private final TagGarbageCollector collector;
+    private final TagStatistics statistics;
+    private final TagPrefixIndex index;
+
+    private final Map<String, UUID> dictionary = new ConcurrentHashMap<>();
+
+    private void remember(Collection<Tag> tags) {
+        tags.forEach(tag -> dictionary.put(tag.getName(), tag.getId()));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private int clamp(int limit) {
+        return Math.min(Math.max(limit, 1), 100);
+    }
+
+    private List<Tag> inOrder(List<String> names, Collection<Tag> tags) {
+        Map<String, Tag> byName = new HashMap<>();
+        tags.forEach(tag -> byName.put(tag.getName(), tag));
+        return names.stream().map(byName::get).filter(Objects::nonNull).toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+        logger.info("Dicionário de tags carregado com {} tags", dictionary.size());
+    }
+
+    @Transactional
+    @Override
+    public List<Tag> findOrCreate(Collection<String> names) {
+        if (names == null) return null;
+        List<String> normalized = names.stream().map(String::toLowerCase).distinct().toList();
+        if (normalized.isEmpty()) return new ArrayList<>();
+        List<String> unknown = normalized.stream().filter(name -> !dictionary.containsKey(name)).toList();
+        repository.insertIgnoringExisting(unknown);
+        List<Tag> tags = repository.lockAllByNameIn(normalized);
+        if (tags.size() < normalized.size()) {
+            // Outra instância removeu uma tag que este dicionário ainda conhece.
+            Set<String> found = new HashSet<>(tags.stream().map(Tag::getName).toList());
+            normalized.stream().filter(name -> !found.contains(name)).forEach(dictionary::remove);
+            repository.insertIgnoringExisting(normalized.stream().filter(name -> !found.contains(name)).toList());
+            tags = repository.lockAllByNameIn(normalized);
+        }
+        // A trava impede a coleta de apagar a tag até o commit; limpar a marca tira a tag da próxima varredura.
+        tags.forEach(tag -> tag.setOrphanedAt(null));
+        List<Tag> resolved = tags;
+        // Tags criadas aqui só existem para as outras transações depois do commit.
+        afterCommit(() -> {
+            remember(resolved);
+            index.add(normalized);
+        });
+        return new ArrayList<>(inOrder(normalized, resolved));
+    }
+
+    @Override
+    public void collectOrphans() {
+        collector.run(names -> {
+            names.forEach(dictionary::remove);
+            index.remove(names);
+        });
+    }
+
+    @Override
+    public List<String> getAllNames() {
+        return repository.findAllNamesInUse();
+    }
+
+    @Override
+    public List<TagStatsRES> getTopTags(int limit) {
+        return statistics.top(clamp(limit));
+    }
+
+    @Override
+    public List<TagStatsRES> getTagsByPrefix(String prefix, int limit) {
+        return statistics.byPrefix(prefix, clamp(limit));
+    }
+
+    @Override
+    public List<String> autocomplete(String prefix, int limit) {
+        return index.complete(prefix, clamp(limit));
+    }
+
+    @Override
+    public void onNoteTagsChanged(List<String> before, List<String> after, Instant publishedAt) {
+        statistics.record(before, after, publishedAt);
+        index.record(before, after);
+    }
+
+    @Override
+    public void refresh() {
+        Map<String, UUID> entries = new HashMap<>();
+        repository.findAllEntries().forEach(entry -> entries.put(entry.name(), entry.id()));
+        dictionary.keySet().retainAll(entries.keySet());
+        dictionary.putAll(entries);
+        List<TagCount> counts = statistics.rebuild();
+        index.rebuild(entries.keySet(), counts);
+    }
+
+}
\ No newline at end of file
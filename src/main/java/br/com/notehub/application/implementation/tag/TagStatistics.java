@@ -0,0 +1,162 @@
+package br.com.notehub.application.implementation.tag;
+
+import br.com.notehub.application.dto.response.tag.TagStatsRES;
+import br.com.notehub.domain.tag.TagCount;
+import br.com.notehub.domain.tag.TagRepository;
+import br.com.notehub.domain.tag.TagUsage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+@Component
+public class TagStatistics {
+
+    private static final Comparator<Ranked> BY_WEIGHT = Comparator.comparingDouble(Ranked::weight).reversed().thenComparing(Ranked::name);
+    private static final double MAX_EXPONENT = 300;
+
+    private final TagRepository repository;
+    private final double decayPerSecond;
+    private final Duration horizon;
+
+    private volatile ConcurrentSkipListMap<String, Stats> byName = new ConcurrentSkipListMap<>();
+    private volatile ConcurrentSkipListSet<Ranked> byWeight = new ConcurrentSkipListSet<>(BY_WEIGHT);
+    private volatile Instant epoch = Instant.now();
+    private List<Change> pending;
+
+    private record Stats(int count, double weight) {
+    }
+
+    private record Ranked(String name, double weight) {
+    }
+
+    private record Change(Collection<String> before, Collection<String> after, Instant publishedAt) {
+    }
+
+    public TagStatistics(TagRepository repository, @Value("${tags.stats.half-life-hours}") double halfLifeHours) {
+        this.repository = repository;
+        this.decayPerSecond = Math.log(2) / (halfLifeHours * 3600);
+        this.horizon = Duration.ofSeconds((long) (halfLifeHours * 3600 * 16));
+    }
+
+    private double exponent(Instant at) {
+        return decayPerSecond * Duration.between(epoch, at).toSeconds();
+    }
+
+    private TagStatsRES toResponse(String name, Stats stats, double decay) {
+        return new TagStatsRES(name, stats.count(), stats.weight() * decay);
+    }
+
+    private void put(String name, Stats previous, Stats next) {
+        if (previous != null) byWeight.remove(new Ranked(name, previous.weight()));
+        if (next.count() <= 0 && next.weight() == 0) {
+            byName.remove(name);
+            return;
+        }
+        byName.put(name, next);
+        byWeight.add(new Ranked(name, next.weight()));
+    }
+
+    private void rebase(Instant now) {
+        double factor = Math.exp(-exponent(now));
+        ConcurrentSkipListMap<String, Stats> names = new ConcurrentSkipListMap<>();
+        ConcurrentSkipListSet<Ranked> weights = new ConcurrentSkipListSet<>(BY_WEIGHT);
+        byName.forEach((name, stats) -> {
+            Stats rebased = new Stats(stats.count(), stats.weight() * factor);
+            names.put(name, rebased);
+            weights.add(new Ranked(name, rebased.weight()));
+        });
+        byName = names;
+        byWeight = weights;
+        epoch = now;
+    }
+
+    private void apply(Change change) {
+        // O peso de cada par (nota, tag) depende só da data de publicação da nota, como na reconstrução;
+        // ocultar, reexibir ou retirar e devolver uma tag não infla a popularidade.
+        double contribution = Math.exp(exponent(change.publishedAt()));
+        Set<String> removed = new HashSet<>(change.before());
+        removed.removeAll(change.after());
+        Set<String> added = new HashSet<>(change.after());
+        added.removeAll(change.before());
+        for (String name : removed) {
+            Stats stats = byName.get(name);
+            if (stats != null) put(name, stats, new Stats(Math.max(0, stats.count() - 1), Math.max(0, stats.weight() - contribution)));
+        }
+        for (String name : added) {
+            Stats stats = byName.getOrDefault(name, new Stats(0, 0));
+            put(name, byName.get(name), new Stats(stats.count() + 1, stats.weight() + contribution));
+        }
+    }
+
+    public synchronized void record(Collection<String> before, Collection<String> after, Instant publishedAt) {
+        Instant now = Instant.now();
+        if (exponent(now) > MAX_EXPONENT) rebase(now);
+        Change change = new Change(before, after, publishedAt);
+        if (pending != null) pending.add(change);
+        apply(change);
+    }
+
+    public List<TagCount> rebuild() {
+        synchronized (this) {
+            pending = new ArrayList<>();
+        }
+        try {
+            Instant now = Instant.now();
+            List<TagCount> counts = repository.countPublicNotes();
+            List<TagUsage> usages = repository.findPublicUsagesSince(now.minus(horizon));
+            Map<String, Double> weights = new HashMap<>();
+            for (TagUsage usage : usages) {
+                double age = Duration.between(usage.usedAt(), now).toSeconds();
+                weights.merge(usage.name(), Math.exp(-decayPerSecond * Math.max(0, age)), Double::sum);
+            }
+            ConcurrentSkipListMap<String, Stats> names = new ConcurrentSkipListMap<>();
+            ConcurrentSkipListSet<Ranked> ranked = new ConcurrentSkipListSet<>(BY_WEIGHT);
+            for (TagCount count : counts) {
+                Stats stats = new Stats((int) count.count(), weights.getOrDefault(count.name(), 0.0));
+                names.put(count.name(), stats);
+                ranked.add(new Ranked(count.name(), stats.weight()));
+            }
+            synchronized (this) {
+                byName = names;
+                byWeight = ranked;
+                epoch = now;
+                // Mudanças registradas durante a leitura do banco são reaplicadas sobre o novo snapshot.
+                pending.forEach(this::apply);
+            }
+            return counts;
+        } finally {
+            synchronized (this) {
+                pending = null;
+            }
+        }
+    }
+
+    public List<TagStatsRES> top(int limit) {
+        ConcurrentSkipListMap<String, Stats> names = byName;
+        double decay = Math.exp(-exponent(Instant.now()));
+        List<TagStatsRES> top = new ArrayList<>(limit);
+        for (Ranked ranked : byWeight) {
+            if (top.size() >= limit) break;
+            Stats stats = names.get(ranked.name());
+            if (stats != null && stats.count() > 0) top.add(toResponse(ranked.name(), stats, decay));
+        }
+        return top;
+    }
+
+    public List<TagStatsRES> byPrefix(String prefix, int limit) {
+        double decay = Math.exp(-exponent(Instant.now()));
+        String from = prefix.toLowerCase();
+        return byName.subMap(from, true, from + Character.MAX_VALUE, false).entrySet().stream()
+                .filter(entry -> entry.getValue().count() > 0)
+                .sorted(Comparator.comparingDouble((Map.Entry<String, Stats> entry) -> entry.getValue().weight()).reversed())
+                .limit(limit)
+                .map(entry -> toResponse(entry.getKey(), entry.getValue(), decay))
+                .toList();
+    }
+
+}
\ No newline at end of file
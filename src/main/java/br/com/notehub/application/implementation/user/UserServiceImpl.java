@@ -1,12 +1,16 @@
 package br.com.notehub.application.implementation.user;
 
-import br.com.notehub.domain.feed.FeedService;
+import br.com.notehub.application.search.SearchHit;
+import br.com.notehub.application.search.SearchIndex;
 import br.com.notehub.domain.follow.FollowService;
 import br.com.notehub.domain.follow.events.UserDeletedEvent;
 import br.com.notehub.domain.history.UserHistoryService;
 import br.com.notehub.domain.note.NoteService;
 import br.com.notehub.domain.token.TokenService;
 import br.com.notehub.domain.user.*;
+import br.com.notehub.domain.user.events.ProfilePrivacyChangedEvent;
+import br.com.notehub.domain.user.events.UserChangedEvent;
+import br.com.notehub.infra.persistence.TwoPhasePager;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
@@ -35,6 +39,9 @@ import static br.com.notehub.infra.exception.CustomExceptions.*;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
+    private static final Set<String> SEARCHABLE_FIELDS = Set.of("username", "display_name", "profile_private", "active");
+    private static final Set<String> NOTE_SEARCHABLE_FIELDS = Set.of("username", "profile_private");
+
     private final UserRepository repository;
     private final UserIdentityRepository userIdentityRepository;
     private final ApplicationEventPublisher eventPublisher;
@@ -43,7 +50,7 @@ public class UserServiceImpl implements UserService {
     private final TokenService tokenService;
     private final NoteService noteService;
     private final PasswordEncoder encoder;
-    private final FeedService feeder;
+    private final SearchIndex searchIndex;
 
     @Value("${supabase.url}")
     private String supabaseUrl;
@@ -70,6 +77,9 @@ public class UserServiceImpl implements UserService {
         if (field.equals("avatar") || field.equals("banner")) validateGif(user, (String) newValue, field);
         repository.save(user);
         historian.setHistory(user, field, String.valueOf(oldValue), String.valueOf(newValue));
+        if (SEARCHABLE_FIELDS.contains(field)) {
+            eventPublisher.publishEvent(new UserChangedEvent(user.getId(), NOTE_SEARCHABLE_FIELDS.contains(field)));
+        }
     }
 
     private String validatePassword(String oldPassword, String newPassword) {
@@ -170,7 +180,7 @@ public class UserServiceImpl implements UserService {
     public void changeProfileVisibility(UUID idFromToken) {
         changeField(idFromToken, "profile_private", User::isProfilePrivate, user -> user.setProfilePrivate(!user.isProfilePrivate()));
         User actor = repository.findById(idFromToken).orElseThrow(EntityNotFoundException::new);
-        feeder.onProfilePrivacyChanged(actor.getId(), actor.isProfilePrivate());
+        eventPublisher.publishEvent(new ProfilePrivacyChangedEvent(actor.getId(), actor.isProfilePrivate()));
     }
 
     @Transactional
@@ -230,10 +240,10 @@ public class UserServiceImpl implements UserService {
         if (!matches) throw new BadCredentialsException("password");
         if (user.isProfilePrivate()) noteService.deleteAllUserNotes(user);
         else noteService.deleteAllUserHiddenNotes(user);
-        Set<UUID> followersIds = followService.getUserFollowersId(idFromToken);
-        Set<UUID> followingIds = followService.getUserFollowingId(idFromToken);
+        followService.scheduleCountAdjustments(idFromToken);
+        followService.recordUserRemoval(idFromToken);
         repository.delete(user);
-        eventPublisher.publishEvent(new UserDeletedEvent(followersIds, followingIds));
+        eventPublisher.publishEvent(new UserDeletedEvent(idFromToken));
     }
 
     @Override
@@ -243,6 +253,13 @@ public class UserServiceImpl implements UserService {
         return user;
     }
 
+    @Override
+    public UserVersion getUserVersion(String username) {
+        UserVersion version = repository.findVersionByUsername(username).orElseThrow(EntityNotFoundException::new);
+        validateActiveField(version.active());
+        return version;
+    }
+
     @Override
     public List<User> getAllActiveUsers() {
         return repository.findAllByActiveTrue();
@@ -250,6 +267,9 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public Page<User> findAll(Pageable pageable, String q) {
+        if (q != null && searchIndex.isEnabled()) {
+            return TwoPhasePager.page(searchIndex.searchUsers(pageable, q).map(SearchHit::id), repository::findAllById, User::getId);
+        }
         return repository.findAllActiveUsersByUsernameOrDisplayName(pageable, q);
     }
 
@@ -1,9 +1,18 @@
 package br.com.notehub.application.scheduler;
 
+import br.com.notehub.application.counter.Counter;
+import br.com.notehub.application.counter.CounterReconciler;
+import br.com.notehub.application.implementation.follow.FollowCountAdjuster;
+import br.com.notehub.application.implementation.follow.FollowGraph;
+import br.com.notehub.application.search.SearchIndex;
+import br.com.notehub.domain.feed.FeedService;
+import br.com.notehub.domain.stream.StreamService;
+import br.com.notehub.domain.tag.TagService;
 import br.com.notehub.domain.token.TokenService;
 import br.com.notehub.domain.user.UserService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -13,6 +22,14 @@ public class Scheduler {
 
     private final UserService userService;
     private final TokenService tokenService;
+    private final FeedService feedService;
+    private final StreamService streamService;
+    private final SearchIndex searchIndex;
+    private final TagService tagService;
+    private final Counter counter;
+    private final CounterReconciler counterReconciler;
+    private final FollowCountAdjuster followCountAdjuster;
+    private final FollowGraph followGraph;
 
     @Scheduled(cron = "0 0 0 * * ?")
     @Transactional
@@ -26,4 +43,55 @@ public class Scheduler {
         userService.cleanUsersWithExpiredActivationTime();
     }
 
+    @Scheduled(cron = "${feed.retention.cron}")
+    public void cleanFeed() {
+        feedService.cleanFeed();
+    }
+
+    @Scheduled(cron = "${tags.gc.cron}")
+    public void collectOrphanTags() {
+        tagService.collectOrphans();
+    }
+
+    @Scheduled(cron = "${tags.stats.refresh-cron}")
+    public void refreshTags() {
+        tagService.refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${stream.heartbeat-ms}")
+    public void heartbeat() {
+        streamService.heartbeat();
+    }
+
+    @Scheduled(cron = "${counters.reconciliation.cron}")
+    public void reconcileCounters() {
+        counterReconciler.run();
+    }
+
+    @Scheduled(fixedDelayString = "${counters.write-behind.flush-interval-ms}")
+    public void flushCounters() {
+        counter.flush();
+    }
+
+    @Scheduled(fixedDelayString = "${follows.adjustments.resume-interval-ms}")
+    public void adjustFollowCounts() {
+        followCountAdjuster.run();
+    }
+
+    @Scheduled(cron = "${follows.graph.reload-cron}")
+    public void reloadFollowGraph() {
+        followGraph.reload();
+    }
+
+    @Scheduled(fixedDelayString = "${follows.graph.sync-interval-ms}")
+    public void syncFollowGraph() {
+        followGraph.sync();
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.commit-interval-ms}")
+    @SneakyThrows
+    public void commitSearchIndex() {
+        searchIndex.commit();
+    }
+
 }
\ No newline at end of file
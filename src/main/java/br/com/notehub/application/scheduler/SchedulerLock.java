@@ -0,0 +1,50 @@
+package br.com.notehub.application.scheduler;
+
+import br.com.notehub.domain.job.JobLockRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class SchedulerLock {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchedulerLock.class);
+
+    private static final String OWNER = UUID.randomUUID().toString();
+
+    private final JobLockRepository repository;
+    private final TransactionTemplate transactionTemplate;
+
+    private boolean acquire(String name, Duration lease) {
+        Instant now = Instant.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> repository.insertIfAbsent(name, Instant.EPOCH, OWNER));
+        } catch (DataIntegrityViolationException exception) {
+            // Outra instância criou o registro ao mesmo tempo; a disputa segue no UPDATE abaixo.
+        }
+        Integer acquired = transactionTemplate.execute(status -> repository.acquire(name, OWNER, now, now.plus(lease)));
+        return acquired != null && acquired == 1;
+    }
+
+    public boolean run(String name, Duration lease, Runnable job) {
+        if (!acquire(name, lease)) {
+            logger.info("Tarefa {} ignorada: já está em execução em outra instância", name);
+            return false;
+        }
+        try {
+            job.run();
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> repository.release(name, OWNER, Instant.now()));
+        }
+        return true;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package br.com.notehub.application.search;
+
+import java.util.UUID;
+
+public record SearchHit(
+        UUID id,
+        float score
+) {
+}
\ No newline at end of file
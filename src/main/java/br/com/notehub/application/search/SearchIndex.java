@@ -0,0 +1,268 @@
+package br.com.notehub.application.search;
+
+import br.com.notehub.domain.note.NoteDocument;
+import br.com.notehub.domain.user.User;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.*;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+public class SearchIndex {
+
+    private static final Map<String, Float> NOTE_FIELDS = Map.of("title", 3f, "tags", 2f, "description", 1.5f, "markdown", 1f);
+    private static final Map<String, Float> USER_FIELDS = Map.of("username", 2f, "display_name", 1.5f);
+    private static final Pattern PHRASE = Pattern.compile("\"([^\"]+)\"");
+
+    private final boolean enabled;
+    private final Analyzer analyzer = new FoldingAnalyzer();
+    private final Segment notes;
+    private final Segment users;
+
+    private record Segment(IndexWriter writer, SearcherManager searchers) {
+    }
+
+    private static final class FoldingAnalyzer extends Analyzer {
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer source = new StandardTokenizer();
+            TokenStream stream = new ASCIIFoldingFilter(new LowerCaseFilter(source));
+            return new TokenStreamComponents(source, stream);
+        }
+    }
+
+    public SearchIndex(@Value("${search.index.enabled}") boolean enabled, @Value("${search.index.path}") String path) throws IOException {
+        this.enabled = enabled;
+        this.notes = enabled ? open(Path.of(path, "notes")) : null;
+        this.users = enabled ? open(Path.of(path, "users")) : null;
+    }
+
+    private Segment open(Path path) throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        IndexWriter writer = new IndexWriter(FSDirectory.open(path), config);
+        return new Segment(writer, new SearcherManager(writer, null));
+    }
+
+    private void write(Segment segment, Consumer<IndexWriter> operation) {
+        if (!enabled) return;
+        operation.accept(segment.writer());
+    }
+
+    private static void update(IndexWriter writer, String id, Document document) {
+        try {
+            writer.updateDocument(new Term("id", id), document);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static void delete(IndexWriter writer, Term term) {
+        try {
+            writer.deleteDocuments(term);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream("", text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) terms.add(term.toString());
+            stream.end();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return terms;
+    }
+
+    private Query textQuery(String q, Map<String, Float> fields) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        Matcher phrases = PHRASE.matcher(q);
+        while (phrases.find()) {
+            String[] terms = analyze(phrases.group(1)).toArray(String[]::new);
+            if (terms.length == 0) continue;
+            BooleanQuery.Builder phrase = new BooleanQuery.Builder();
+            fields.forEach((field, boost) -> phrase.add(new BoostQuery(new PhraseQuery(field, terms), boost), BooleanClause.Occur.SHOULD));
+            query.add(phrase.build(), BooleanClause.Occur.MUST);
+        }
+        for (String term : analyze(PHRASE.matcher(q).replaceAll(" "))) {
+            BooleanQuery.Builder variants = new BooleanQuery.Builder();
+            fields.forEach((field, boost) -> {
+                Term exact = new Term(field, term);
+                variants.add(new BoostQuery(new TermQuery(exact), boost * 2), BooleanClause.Occur.SHOULD);
+                variants.add(new BoostQuery(new PrefixQuery(exact), boost), BooleanClause.Occur.SHOULD);
+                if (term.length() > 3) {
+                    variants.add(new BoostQuery(new FuzzyQuery(exact, term.length() > 6 ? 2 : 1), boost / 2), BooleanClause.Occur.SHOULD);
+                }
+            });
+            query.add(variants.build(), BooleanClause.Occur.MUST);
+        }
+        BooleanQuery built = query.build();
+        return built.clauses().isEmpty() ? new MatchAllDocsQuery() : built;
+    }
+
+    private Page<SearchHit> search(Segment segment, Pageable pageable, Query text, List<Query> filters, List<Query> exclusions) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder().add(text, BooleanClause.Occur.MUST);
+        filters.forEach(filter -> builder.add(filter, BooleanClause.Occur.FILTER));
+        exclusions.forEach(exclusion -> builder.add(exclusion, BooleanClause.Occur.MUST_NOT));
+        Query query = builder.build();
+        int offset = (int) pageable.getOffset();
+        try {
+            IndexSearcher searcher = segment.searchers().acquire();
+            try {
+                int total = searcher.count(query);
+                if (offset >= total) return new PageImpl<>(List.of(), pageable, total);
+                ScoreDoc[] docs = searcher.search(query, offset + pageable.getPageSize()).scoreDocs;
+                StoredFields stored = searcher.storedFields();
+                List<SearchHit> hits = new ArrayList<>();
+                for (int i = offset; i < docs.length; i++) {
+                    Document document = stored.document(docs[i].doc);
+                    hits.add(new SearchHit(UUID.fromString(document.get("id")), docs[i].score));
+                }
+                return new PageImpl<>(hits, pageable, total);
+            } finally {
+                segment.searchers().release(searcher);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static Query term(String field, Object value) {
+        return new TermQuery(new Term(field, String.valueOf(value)));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void indexNote(NoteDocument note) {
+        Document document = new Document();
+        document.add(new StringField("id", note.id().toString(), Field.Store.YES));
+        document.add(new TextField("title", Objects.toString(note.title(), ""), Field.Store.NO));
+        document.add(new TextField("description", Objects.toString(note.description(), ""), Field.Store.NO));
+        document.add(new TextField("markdown", Objects.toString(note.markdown(), ""), Field.Store.NO));
+        document.add(new TextField("tags", Objects.toString(note.tags(), ""), Field.Store.NO));
+        document.add(new StringField("hidden", String.valueOf(note.hidden()), Field.Store.NO));
+        document.add(new StringField("closed", String.valueOf(note.closed()), Field.Store.NO));
+        if (note.authorId() != null) {
+            document.add(new StringField("author", note.authorId().toString(), Field.Store.NO));
+            document.add(new StringField("author_username", Objects.toString(note.authorUsername(), ""), Field.Store.NO));
+            document.add(new StringField("author_private", String.valueOf(Boolean.TRUE.equals(note.authorPrivate())), Field.Store.NO));
+        }
+        write(notes, writer -> update(writer, note.id().toString(), document));
+    }
+
+    public void deleteNote(UUID id) {
+        write(notes, writer -> delete(writer, new Term("id", id.toString())));
+    }
+
+    public void deleteNotesByAuthor(UUID authorId) {
+        write(notes, writer -> delete(writer, new Term("author", authorId.toString())));
+    }
+
+    public void indexUser(User user) {
+        Document document = new Document();
+        document.add(new StringField("id", user.getId().toString(), Field.Store.YES));
+        document.add(new TextField("username", Objects.toString(user.getUsername(), ""), Field.Store.NO));
+        document.add(new TextField("display_name", Objects.toString(user.getDisplayName(), ""), Field.Store.NO));
+        write(users, writer -> update(writer, user.getId().toString(), document));
+    }
+
+    public void deleteUser(UUID id) {
+        write(users, writer -> delete(writer, new Term("id", id.toString())));
+    }
+
+    public Page<SearchHit> searchPublicNotes(Pageable pageable, String q) {
+        return search(notes, pageable, textQuery(q, NOTE_FIELDS),
+                List.of(term("hidden", false)),
+                List.of(term("author_private", true)));
+    }
+
+    public Page<SearchHit> searchPrivateNotes(Pageable pageable, UUID authorId, String q) {
+        return search(notes, pageable, textQuery(q, NOTE_FIELDS), List.of(term("author", authorId)), List.of());
+    }
+
+    public Page<SearchHit> searchUserNotes(Pageable pageable, String username, String q, String type) {
+        List<Query> filters = new ArrayList<>(List.of(term("author_username", username)));
+        switch (type == null ? "" : type) {
+            case "" -> filters.add(term("hidden", false));
+            case "open" -> filters.addAll(List.of(term("hidden", false), term("closed", false)));
+            case "closed" -> filters.addAll(List.of(term("hidden", false), term("closed", true)));
+            case "hidden" -> filters.add(term("hidden", true));
+            default -> {
+                return Page.empty(pageable);
+            }
+        }
+        return search(notes, pageable, textQuery(q, NOTE_FIELDS), filters, List.of());
+    }
+
+    public Page<SearchHit> searchUsers(Pageable pageable, String q) {
+        return search(users, pageable, textQuery(q, USER_FIELDS), List.of(), List.of());
+    }
+
+    public boolean isEmpty() {
+        if (!enabled) return false;
+        return notes.writer().getDocStats().numDocs == 0 && users.writer().getDocStats().numDocs == 0;
+    }
+
+    public void refresh() {
+        if (!enabled) return;
+        try {
+            for (Segment segment : List.of(notes, users)) segment.searchers().maybeRefresh();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public void clear() throws IOException {
+        if (!enabled) return;
+        for (Segment segment : List.of(notes, users)) {
+            segment.writer().deleteAll();
+            segment.searchers().maybeRefresh();
+        }
+    }
+
+    public void commit() throws IOException {
+        if (!enabled) return;
+        for (Segment segment : List.of(notes, users)) {
+            if (segment.writer().hasUncommittedChanges()) segment.writer().commit();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (!enabled) return;
+        for (Segment segment : List.of(notes, users)) {
+            segment.searchers().close();
+            segment.writer().close();
+        }
+    }
+
+}
\ No newline at end of file
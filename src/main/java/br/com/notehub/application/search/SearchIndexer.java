@@ -0,0 +1,114 @@
+package br.com.notehub.application.search;
+
+import br.com.notehub.domain.note.NoteDocument;
+import br.com.notehub.domain.note.NoteRepository;
+import br.com.notehub.domain.user.User;
+import br.com.notehub.domain.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class SearchIndexer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexer.class);
+
+    private static final UUID FIRST_KEY = new UUID(0L, 0L);
+
+    private final SearchIndex index;
+    private final NoteRepository noteRepository;
+    private final UserRepository userRepository;
+
+    @Value("${search.index.rebuild-batch-size}")
+    private int batchSize;
+
+    private void indexNotes(List<UUID> ids) {
+        List<NoteDocument> documents = noteRepository.findDocumentsByIdIn(ids);
+        documents.forEach(index::indexNote);
+        Set<UUID> found = new LinkedHashSet<>(documents.stream().map(NoteDocument::id).toList());
+        ids.stream().filter(id -> !found.contains(id)).forEach(index::deleteNote);
+    }
+
+    private void indexUsers(List<UUID> ids) {
+        List<User> users = userRepository.findAllById(ids);
+        users.stream().filter(User::isActive).forEach(index::indexUser);
+        Set<UUID> active = new LinkedHashSet<>(users.stream().filter(User::isActive).map(User::getId).toList());
+        ids.stream().filter(id -> !active.contains(id)).forEach(index::deleteUser);
+    }
+
+    private void indexAuthorNotes(UUID userId, boolean refreshEachBatch) {
+        for (List<UUID> ids = noteRepository.findIdsByUserIdAfter(userId, FIRST_KEY, PageRequest.of(0, batchSize)); !ids.isEmpty();
+             ids = noteRepository.findIdsByUserIdAfter(userId, ids.get(ids.size() - 1), PageRequest.of(0, batchSize))) {
+            indexNotes(ids);
+            if (refreshEachBatch) index.refresh();
+        }
+    }
+
+    public void indexNote(UUID noteId) {
+        if (!index.isEnabled()) return;
+        indexNotes(List.of(noteId));
+        index.refresh();
+    }
+
+    public void indexUser(UUID userId, boolean withNotes) {
+        if (!index.isEnabled()) return;
+        indexUsers(List.of(userId));
+        index.refresh();
+        if (withNotes) indexAuthorNotes(userId, true);
+    }
+
+    public void reindexAuthorNotes(UUID userId) {
+        if (!index.isEnabled()) return;
+        index.deleteNotesByAuthor(userId);
+        // Sem refresh entre a remoção e a regravação, as buscas nunca veem as notas do autor sumirem.
+        indexAuthorNotes(userId, false);
+        index.refresh();
+    }
+
+    public void rebuild() {
+        if (!index.isEnabled()) return;
+        long started = System.currentTimeMillis();
+        try {
+            index.clear();
+            long notes = 0;
+            for (List<UUID> ids = noteRepository.findIdsAfter(FIRST_KEY, PageRequest.of(0, batchSize)); !ids.isEmpty();
+                 ids = noteRepository.findIdsAfter(ids.get(ids.size() - 1), PageRequest.of(0, batchSize))) {
+                indexNotes(ids);
+                index.refresh();
+                notes += ids.size();
+            }
+            long users = 0;
+            for (List<UUID> ids = userRepository.findIdsAfter(FIRST_KEY, PageRequest.of(0, batchSize)); !ids.isEmpty();
+                 ids = userRepository.findIdsAfter(ids.get(ids.size() - 1), PageRequest.of(0, batchSize))) {
+                indexUsers(ids);
+                index.refresh();
+                users += ids.size();
+            }
+            index.commit();
+            logger.info("Índice de busca reconstruído: {} notas e {} usuários em {} ms", notes, users, System.currentTimeMillis() - started);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (index.isEmpty()) rebuild();
+    }
+
+}
\ No newline at end of file
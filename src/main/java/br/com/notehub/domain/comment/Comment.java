@@ -9,6 +9,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -18,6 +19,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@DynamicUpdate
 @Table(name = "comments")
 @NoArgsConstructor
 @Data
@@ -49,6 +51,7 @@ public class Comment {
 
     @OneToMany(mappedBy = "comment", orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Reply> replies = new ArrayList<>();
+    @Column(updatable = false)
     private int repliesCount = 0;
 
     public Comment(User user, Note note, String text) {
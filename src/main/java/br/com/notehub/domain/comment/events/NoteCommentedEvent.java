@@ -0,0 +1,8 @@
+package br.com.notehub.domain.comment.events;
+
+import java.util.UUID;
+
+public record NoteCommentedEvent(
+        UUID commentId
+) {
+}
@@ -0,0 +1,72 @@
+package br.com.notehub.domain.feed;
+
+import br.com.notehub.domain.comment.Comment;
+import br.com.notehub.domain.flame.Flame;
+import br.com.notehub.domain.note.Note;
+import br.com.notehub.domain.user.User;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "actor_events")
+@NoArgsConstructor
+@Data
+public class ActorEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    private Instant createdAt = Instant.now();
+
+    @Convert(converter = FeedEventConverter.class)
+    private FeedEvent event;
+
+    @JoinColumn(name = "actor_id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User actor;
+
+    @JoinColumn(name = "related_user_id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User related;
+
+    @JoinColumn(name = "note_id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Note note;
+
+    @JoinColumn(name = "flame_id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Flame flame;
+
+    @JoinColumn(name = "comment_id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Comment comment;
+
+    public ActorEvent(FeedEvent event, User actor, User related, Note note, Flame flame, Comment comment) {
+        this.event = event;
+        this.actor = actor;
+        this.related = related;
+        this.note = note;
+        this.flame = flame;
+        this.comment = comment;
+    }
+
+    public Feed toFeed(User recipient) {
+        Feed feed = new Feed(event, recipient, actor, related, note, flame, comment);
+        feed.setId(id);
+        feed.setCreatedAt(createdAt);
+        return feed;
+    }
+
+}
@@ -0,0 +1,36 @@
+package br.com.notehub.domain.feed;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ActorEventRepository extends JpaRepository<ActorEvent, UUID>, JpaSpecificationExecutor<ActorEvent> {
+
+    @Query("""
+            SELECT f.following.id FROM Follow f
+            WHERE f.follower.id = :id
+            AND EXISTS (SELECT 1 FROM ActorEvent e WHERE e.actor.id = f.following.id)
+            """)
+    List<UUID> findPullSourceIds(@Param("id") UUID recipientId);
+
+    @Modifying
+    @Query("""
+            DELETE FROM ActorEvent e
+            WHERE e.actor.id = :followerId
+            AND e.related.id = :followingId
+            AND e.event = 'User_Followed'
+            """)
+    void deleteActorFollowEvent(@Param("followerId") UUID followerId, @Param("followingId") UUID followingId);
+
+    @Modifying
+    @Query("DELETE FROM ActorEvent e WHERE e.note.id = :noteId")
+    void deleteAllByNoteId(@Param("noteId") UUID noteId);
+
+}
@@ -0,0 +1,54 @@
+package br.com.notehub.domain.feed;
+
+import br.com.notehub.domain.follow.Follow;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.UUID;
+
+public class ActorEventSpec {
+
+    public static Specification<ActorEvent> fromActors(List<UUID> actorIds) {
+        return (root, query, cb) -> root.get("actor").get("id").in(actorIds);
+    }
+
+    public static Specification<ActorEvent> visibleTo(UUID recipientId) {
+        return (root, query, cb) -> {
+            Subquery<Integer> recipientFollowsActor = query.subquery(Integer.class);
+            Root<Follow> f1 = recipientFollowsActor.from(Follow.class);
+            recipientFollowsActor.select(cb.literal(1)).where(
+                    cb.equal(f1.get("follower").get("id"), recipientId),
+                    cb.equal(f1.get("following").get("id"), root.get("actor").get("id"))
+            );
+            Subquery<Integer> actorFollowsRecipient = query.subquery(Integer.class);
+            Root<Follow> f2 = actorFollowsRecipient.from(Follow.class);
+            actorFollowsRecipient.select(cb.literal(1)).where(
+                    cb.equal(f2.get("follower").get("id"), root.get("actor").get("id")),
+                    cb.equal(f2.get("following").get("id"), recipientId)
+            );
+            return cb.and(cb.exists(recipientFollowsActor), cb.exists(actorFollowsRecipient));
+        };
+    }
+
+    public static Specification<ActorEvent> withEvents(List<FeedEvent> events) {
+        return (root, query, cb) -> events == null || events.isEmpty()
+                ? cb.conjunction()
+                : root.get("event").in(events);
+    }
+
+    public static Specification<ActorEvent> before(FeedCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) return cb.conjunction();
+            return cb.or(
+                    cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                    cb.and(
+                            cb.equal(root.get("createdAt"), cursor.createdAt()),
+                            cb.lessThan(root.get("id"), cursor.id())
+                    )
+            );
+        };
+    }
+
+}
\ No newline at end of file
@@ -11,6 +11,8 @@ import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Entity
@@ -58,6 +60,16 @@ public class Feed {
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Comment comment;
 
+    private int actorsCount = 1;
+
+    @Convert(converter = UUIDListConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private List<UUID> topActorIds = new ArrayList<>();
+
+    @Convert(converter = UUIDListConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private List<UUID> actorIds = new ArrayList<>();
+
     public Feed(FeedEvent event, User recipient, User actor, User related, Note note, Flame flame, Comment comment) {
         this.event = event;
         this.recipient = recipient;
@@ -66,6 +78,10 @@ public class Feed {
         this.note = note;
         this.flame = flame;
         this.comment = comment;
+        if (actor != null) {
+            this.topActorIds.add(actor.getId());
+            this.actorIds.add(actor.getId());
+        }
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package br.com.notehub.domain.feed;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public record FeedAggregate(
+        UUID id,
+        UUID recipientId,
+        int actorsCount,
+        List<UUID> topActorIds,
+        List<UUID> actorIds
+) {
+    public FeedAggregate with(UUID actorId, int topActors) {
+        List<UUID> top = new ArrayList<>(topActors);
+        top.add(actorId);
+        topActorIds.stream().filter(id -> !id.equals(actorId)).limit(topActors - 1L).forEach(top::add);
+        if (actorIds.contains(actorId)) return new FeedAggregate(id, recipientId, actorsCount, top, actorIds);
+        List<UUID> actors = new ArrayList<>(actorIds);
+        actors.add(actorId);
+        return new FeedAggregate(id, recipientId, actorsCount + 1, top, actors);
+    }
+}
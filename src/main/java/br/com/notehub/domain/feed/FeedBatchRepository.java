@@ -0,0 +1,16 @@
+package br.com.notehub.domain.feed;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface FeedBatchRepository {
+
+    void insertForRecipients(Collection<UUID> recipientIds, FeedEvent event, UUID actorId, UUID relatedId, UUID noteId, UUID flameId, UUID commentId);
+
+    List<FeedAggregate> findAggregatesSince(FeedEvent event, UUID noteId, Instant since);
+
+    void updateAggregates(Collection<FeedAggregate> aggregates);
+
+}
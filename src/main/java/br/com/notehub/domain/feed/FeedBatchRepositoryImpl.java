@@ -0,0 +1,87 @@
+package br.com.notehub.domain.feed;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+
+@RequiredArgsConstructor
+public class FeedBatchRepositoryImpl implements FeedBatchRepository {
+
+    private static final String INSERT = """
+            INSERT INTO feed (id, created_at, event, recipient_id, actor_id, related_user_id, note_id, flame_id, comment_id, actors_count, top_actor_ids, actor_ids)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 1, ?, ?)
+            """;
+
+    private static final String SELECT_AGGREGATES = """
+            SELECT id, recipient_id, actors_count, top_actor_ids, actor_ids
+            FROM feed
+            WHERE event = ? AND note_id = ? AND created_at >= ?
+            ORDER BY created_at DESC
+            FOR UPDATE
+            """;
+
+    private static final String UPDATE_AGGREGATE = """
+            UPDATE feed
+            SET actor_id = ?, actors_count = ?, top_actor_ids = ?, actor_ids = ?, flame_id = NULL, comment_id = NULL
+            WHERE id = ?
+            """;
+
+    private static final UUIDListConverter UUID_LIST = new UUIDListConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${feed.fanout.batch-size}")
+    private int batchSize;
+
+    @Override
+    public void insertForRecipients(Collection<UUID> recipientIds, FeedEvent event, UUID actorId, UUID relatedId, UUID noteId, UUID flameId, UUID commentId) {
+        if (recipientIds.isEmpty()) return;
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT, recipientIds, batchSize, (ps, recipientId) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setTimestamp(2, createdAt);
+            ps.setString(3, event.getEvent());
+            ps.setObject(4, recipientId);
+            ps.setObject(5, actorId);
+            ps.setObject(6, relatedId);
+            ps.setObject(7, noteId);
+            ps.setObject(8, flameId);
+            ps.setObject(9, commentId);
+            ps.setString(10, actorId.toString());
+            ps.setString(11, actorId.toString());
+        });
+    }
+
+    @Override
+    public List<FeedAggregate> findAggregatesSince(FeedEvent event, UUID noteId, Instant since) {
+        Map<UUID, FeedAggregate> newestByRecipient = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_AGGREGATES, rs -> {
+            UUID recipientId = rs.getObject("recipient_id", UUID.class);
+            newestByRecipient.putIfAbsent(recipientId, new FeedAggregate(
+                    rs.getObject("id", UUID.class),
+                    recipientId,
+                    rs.getInt("actors_count"),
+                    UUID_LIST.convertToEntityAttribute(rs.getString("top_actor_ids")),
+                    UUID_LIST.convertToEntityAttribute(rs.getString("actor_ids"))
+            ));
+        }, event.getEvent(), noteId, Timestamp.from(since));
+        return new ArrayList<>(newestByRecipient.values());
+    }
+
+    @Override
+    public void updateAggregates(Collection<FeedAggregate> aggregates) {
+        if (aggregates.isEmpty()) return;
+        jdbcTemplate.batchUpdate(UPDATE_AGGREGATE, aggregates, batchSize, (ps, aggregate) -> {
+            ps.setObject(1, aggregate.topActorIds().get(0));
+            ps.setInt(2, aggregate.actorsCount());
+            ps.setString(3, UUID_LIST.convertToDatabaseColumn(aggregate.topActorIds()));
+            ps.setString(4, UUID_LIST.convertToDatabaseColumn(aggregate.actorIds()));
+            ps.setObject(5, aggregate.id());
+        });
+    }
+
+}
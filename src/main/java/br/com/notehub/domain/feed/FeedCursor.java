@@ -0,0 +1,31 @@
+package br.com.notehub.domain.feed;
+
+import br.com.notehub.infra.exception.CustomExceptions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+public record FeedCursor(Instant createdAt, UUID id) {
+
+    public static FeedCursor of(Feed feed) {
+        return new FeedCursor(feed.getCreatedAt(), feed.getId());
+    }
+
+    public static FeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return new FeedCursor(Instant.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (RuntimeException e) {
+            throw new CustomExceptions.InvalidCursorException();
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
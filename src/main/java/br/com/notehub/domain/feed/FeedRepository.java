@@ -10,7 +10,7 @@ import org.springframework.stereotype.Repository;
 import java.util.UUID;
 
 @Repository
-public interface FeedRepository extends JpaRepository<Feed, UUID>, JpaSpecificationExecutor<Feed> {
+public interface FeedRepository extends JpaRepository<Feed, UUID>, JpaSpecificationExecutor<Feed>, FeedBatchRepository {
 
     @Modifying
     @Query("""
@@ -47,6 +47,8 @@ public interface FeedRepository extends JpaRepository<Feed, UUID>, JpaSpecificat
             """)
     void deleteAllExRecipientEventsOnUnfollowEventByActor(@Param("actorId") UUID actorId, @Param("recipientId") UUID recipientId);
 
-    void deleteAllByNoteId(UUID noteId);
+    @Modifying
+    @Query("DELETE FROM Feed f WHERE f.note.id = :noteId")
+    void deleteAllByNoteId(@Param("noteId") UUID noteId);
 
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package br.com.notehub.domain.feed;
 
 import br.com.notehub.application.dto.response.feed.FeedEventRES;
+import br.com.notehub.application.dto.response.page.CursorRES;
 import br.com.notehub.application.dto.response.page.PageRES;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -27,4 +28,8 @@ public interface FeedService {
 
     PageRES<FeedEventRES> getFeed(Pageable pageable, UUID recipientId, List<FeedEvent> events);
 
+    CursorRES<FeedEventRES> getFeedByCursor(String cursor, int size, UUID recipientId, List<FeedEvent> events);
+
+    void cleanFeed();
+
 }
\ No newline at end of file
@@ -17,4 +17,17 @@ public class FeedSpec {
                 : root.get("event").in(events);
     }
 
+    public static Specification<Feed> before(FeedCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) return cb.conjunction();
+            return cb.or(
+                    cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                    cb.and(
+                            cb.equal(root.get("createdAt"), cursor.createdAt()),
+                            cb.lessThan(root.get("id"), cursor.id())
+                    )
+            );
+        };
+    }
+
 }
\ No newline at end of file
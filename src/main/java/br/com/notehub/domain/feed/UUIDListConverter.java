@@ -0,0 +1,27 @@
+package br.com.notehub.domain.feed;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Converter
+public class UUIDListConverter implements AttributeConverter<List<UUID>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(List<UUID> ids) {
+        if (ids == null || ids.isEmpty()) return null;
+        return ids.stream().map(UUID::toString).collect(Collectors.joining(","));
+    }
+
+    @Override
+    public List<UUID> convertToEntityAttribute(String ids) {
+        if (ids == null || ids.isBlank()) return new ArrayList<>();
+        return Arrays.stream(ids.split(",")).map(UUID::fromString).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+}
@@ -0,0 +1,9 @@
+package br.com.notehub.domain.feed.events;
+
+import br.com.notehub.domain.feed.FeedEvent;
+
+import java.util.List;
+import java.util.UUID;
+
+public record FeedFannedOutEvent(List<UUID> recipientIds, FeedEvent event, UUID actorId, UUID noteId) {
+}
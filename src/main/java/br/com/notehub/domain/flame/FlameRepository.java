@@ -2,6 +2,7 @@ package br.com.notehub.domain.flame;
 
 import br.com.notehub.domain.note.Note;
 import br.com.notehub.domain.user.User;
+import br.com.notehub.infra.persistence.TwoPhasePager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,11 +23,10 @@ public interface FlameRepository extends JpaRepository<Flame, UUID> {
     boolean existsByUserAndNote(User user, Note note);
 
     @Query("""
-            SELECT DISTINCT f FROM Flame f
-            LEFT JOIN FETCH f.user u
-            LEFT JOIN FETCH f.note n
-            LEFT JOIN FETCH n.user nu
-            LEFT JOIN FETCH n.tags t
+            SELECT f.id FROM Flame f
+            LEFT JOIN f.user u
+            LEFT JOIN f.note n
+            LEFT JOIN n.user nu
             WHERE u.username = :username
             AND n.hidden = false
             AND (
@@ -40,6 +42,20 @@ public interface FlameRepository extends JpaRepository<Flame, UUID> {
                    ))
             )
             """)
-    Page<Flame> getUserFlames(Pageable pageable, @Param("username") String username, @Param("q") String q);
+    Page<UUID> getUserFlameIds(Pageable pageable, @Param("username") String username, @Param("q") String q);
+
+    @Query("""
+            SELECT DISTINCT f FROM Flame f
+            LEFT JOIN FETCH f.user
+            LEFT JOIN FETCH f.note n
+            LEFT JOIN FETCH n.user
+            LEFT JOIN FETCH n.tags
+            WHERE f.id IN :ids
+            """)
+    List<Flame> findAllDetailedByIdIn(@Param("ids") Collection<UUID> ids);
+
+    default Page<Flame> getUserFlames(Pageable pageable, String username, String q) {
+        return TwoPhasePager.page(getUserFlameIds(pageable, username, q), this::findAllDetailedByIdIn, Flame::getId);
+    }
 
 }
\ No newline at end of file
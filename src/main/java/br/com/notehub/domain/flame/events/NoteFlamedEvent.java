@@ -0,0 +1,8 @@
+package br.com.notehub.domain.flame.events;
+
+import java.util.UUID;
+
+public record NoteFlamedEvent(
+        UUID flameId
+) {
+}
@@ -0,0 +1,22 @@
+package br.com.notehub.domain.follow;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "follow_count_adjustments")
+@Data
+@NoArgsConstructor
+public class FollowCountAdjustment {
+
+    @EmbeddedId
+    private FollowCountAdjustmentId id;
+
+    private Instant createdAt = Instant.now();
+
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package br.com.notehub.domain.follow;
+
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FollowCountAdjustmentId implements Serializable {
+    private UUID jobId;
+    private String counter;
+    private UUID userId;
+}
\ No newline at end of file
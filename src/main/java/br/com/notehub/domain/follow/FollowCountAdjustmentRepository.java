@@ -0,0 +1,32 @@
+package br.com.notehub.domain.follow;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface FollowCountAdjustmentRepository extends JpaRepository<FollowCountAdjustment, FollowCountAdjustmentId> {
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO follow_count_adjustments (job_id, counter, user_id, created_at)
+            SELECT f.following_id, 'following_count', f.follower_id, CURRENT_TIMESTAMP
+            FROM follows f
+            WHERE f.following_id = :id
+            """)
+    int scheduleFollowingDecrements(@Param("id") UUID deletedId);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO follow_count_adjustments (job_id, counter, user_id, created_at)
+            SELECT f.follower_id, 'followers_count', f.following_id, CURRENT_TIMESTAMP
+            FROM follows f
+            WHERE f.follower_id = :id
+            """)
+    int scheduleFollowersDecrements(@Param("id") UUID deletedId);
+
+}
\ No newline at end of file
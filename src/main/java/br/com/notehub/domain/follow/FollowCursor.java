@@ -0,0 +1,31 @@
+package br.com.notehub.domain.follow;
+
+import br.com.notehub.infra.exception.CustomExceptions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+public record FollowCursor(Instant createdAt, UUID userId) {
+
+    public static FollowCursor of(Follow follow, FollowSpec.Side side) {
+        return new FollowCursor(follow.getCreatedAt(), side.userOf(follow).getId());
+    }
+
+    public static FollowCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return new FollowCursor(Instant.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (RuntimeException e) {
+            throw new CustomExceptions.InvalidCursorException();
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + userId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
\ No newline at end of file
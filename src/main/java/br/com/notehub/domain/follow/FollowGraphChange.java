@@ -0,0 +1,34 @@
+package br.com.notehub.domain.follow;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "follow_graph_changes")
+@Data
+@NoArgsConstructor
+public class FollowGraphChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private UUID followerId;
+
+    private UUID followingId;
+
+    private boolean linked;
+
+    private Instant createdAt = Instant.now();
+
+    public FollowGraphChange(UUID followerId, UUID followingId, boolean linked) {
+        this.followerId = followerId;
+        this.followingId = followingId;
+        this.linked = linked;
+    }
+
+}
\ No newline at end of file
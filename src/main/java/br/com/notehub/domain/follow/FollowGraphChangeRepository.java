@@ -0,0 +1,8 @@
+package br.com.notehub.domain.follow;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FollowGraphChangeRepository extends JpaRepository<FollowGraphChange, Long> {
+}
\ No newline at end of file
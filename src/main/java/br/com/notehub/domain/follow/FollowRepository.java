@@ -3,24 +3,47 @@ package br.com.notehub.domain.follow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
 @Repository
-public interface FollowRepository extends JpaRepository<Follow, FollowId> {
+public interface FollowRepository extends JpaRepository<Follow, FollowId>, JpaSpecificationExecutor<Follow> {
 
     boolean existsByFollowerIdAndFollowingId(UUID followerId, UUID followingId);
 
+    @Query("""
+            SELECT CASE WHEN COUNT(f) = 2 THEN true ELSE false END
+            FROM Follow f
+            WHERE (f.follower.id = :first AND f.following.id = :second)
+               OR (f.follower.id = :second AND f.following.id = :first)
+            """)
+    boolean existsMutualFollow(@Param("first") UUID first, @Param("second") UUID second);
+
     @Query("SELECT f.follower.id FROM Follow f WHERE f.following.id = :id")
     Set<UUID> findFollowerIdsByFollowingId(@Param("id") UUID followerId);
 
     @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :id")
     Set<UUID> findFollowingIdsByFollowerId(@Param("id") UUID followingId);
 
+    @Query("""
+            SELECT f1.follower.id
+            FROM Follow f1
+            WHERE f1.following.id = :id
+              AND EXISTS (
+                  SELECT 1
+                  FROM Follow f2
+                  WHERE f2.follower.id = :id
+                    AND f2.following.id = f1.follower.id
+              )
+            """)
+    List<UUID> findMutualFollowerIds(@Param("id") UUID userId);
+
     Page<Follow> findByFollowerId(UUID followerId, Pageable pageable);
 
     Page<Follow> findByFollowingId(UUID followingId, Pageable pageable);
@@ -1,5 +1,7 @@
 package br.com.notehub.domain.follow;
 
+import br.com.notehub.application.dto.response.page.CursorRES;
+import br.com.notehub.application.dto.response.user.DetailUserRES;
 import br.com.notehub.domain.user.User;
 import jakarta.annotation.Nullable;
 import org.springframework.data.domain.Page;
@@ -22,10 +24,14 @@ public interface FollowService {
 
     Page<User> getUserFollowers(Pageable pageable, String q, UUID requestingId, String username);
 
+    CursorRES<DetailUserRES> scrollUserFollowing(String cursor, int size, String q, UUID requestingId, String username);
+
+    CursorRES<DetailUserRES> scrollUserFollowers(String cursor, int size, String q, UUID requestingId, String username);
+
     Set<String> getUserMutualConnections(UUID id);
 
-    Set<UUID> getUserFollowersId(UUID id);
+    void scheduleCountAdjustments(UUID deletedId);
 
-    Set<UUID> getUserFollowingId(UUID id);
+    void recordUserRemoval(UUID deletedId);
 
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package br.com.notehub.domain.follow;
+
+import br.com.notehub.domain.user.User;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+public class FollowSpec {
+
+    public enum Side {
+
+        FOLLOWING("follower", "following", Follow::getFollowing),
+        FOLLOWERS("following", "follower", Follow::getFollower);
+
+        private final String owner;
+        private final String listed;
+        private final Function<Follow, User> user;
+
+        Side(String owner, String listed, Function<Follow, User> user) {
+            this.owner = owner;
+            this.listed = listed;
+            this.user = user;
+        }
+
+        public User userOf(Follow follow) {
+            return user.apply(follow);
+        }
+
+        public Sort newestFirst() {
+            return Sort.by(Sort.Direction.DESC, "createdAt", "id." + listed + "Id");
+        }
+
+    }
+
+    public static Specification<Follow> ownedBy(Side side, UUID userId) {
+        return (root, query, cb) -> cb.equal(root.get(side.owner).get("id"), userId);
+    }
+
+    private static Predicate matching(CriteriaBuilder cb, From<?, ?> user, String q) {
+        if (q == null || q.isBlank()) return cb.conjunction();
+        String pattern = "%" + q.toLowerCase() + "%";
+        return cb.or(
+                cb.like(cb.lower(user.get("username")), pattern),
+                cb.like(cb.lower(user.get("displayName")), pattern)
+        );
+    }
+
+    public static Specification<Follow> listing(Side side, String q) {
+        return (root, query, cb) -> matching(cb, (From<?, ?>) root.fetch(side.listed, JoinType.INNER), q);
+    }
+
+    public static Specification<Follow> counting(Side side, String q) {
+        return (root, query, cb) -> matching(cb, root.join(side.listed), q);
+    }
+
+    public static Specification<Follow> before(Side side, FollowCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) return cb.conjunction();
+            return cb.or(
+                    cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                    cb.and(
+                            cb.equal(root.get("createdAt"), cursor.createdAt()),
+                            cb.lessThan(root.get("id").get(side.listed + "Id"), cursor.userId())
+                    )
+            );
+        };
+    }
+
+}
\ No newline at end of file
@@ -1,10 +1,8 @@
 package br.com.notehub.domain.follow.events;
 
-import java.util.Set;
 import java.util.UUID;
 
 public record UserDeletedEvent(
-        Set<UUID> followerIds,
-        Set<UUID> followingIds
+        UUID userId
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package br.com.notehub.domain.follow.events;
+
+import java.util.UUID;
+
+public record UserFollowedEvent(
+        UUID followerId,
+        UUID followingId
+) {
+}
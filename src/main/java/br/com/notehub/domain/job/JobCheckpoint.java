@@ -0,0 +1,29 @@
+package br.com.notehub.domain.job;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "job_checkpoints")
+@NoArgsConstructor
+@Data
+public class JobCheckpoint {
+
+    @Id
+    private String jobName;
+
+    private String lastKey;
+
+    private Instant updatedAt = Instant.now();
+
+    public JobCheckpoint(String jobName, String lastKey) {
+        this.jobName = jobName;
+        this.lastKey = lastKey;
+    }
+
+}
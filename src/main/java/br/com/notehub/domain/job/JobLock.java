@@ -0,0 +1,24 @@
+package br.com.notehub.domain.job;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "job_locks")
+@NoArgsConstructor
+@Data
+public class JobLock {
+
+    @Id
+    private String name;
+
+    private Instant lockedUntil;
+
+    private String lockedBy;
+
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package br.com.notehub.domain.job;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO job_locks (name, locked_until, locked_by)
+            SELECT :name, :until, :owner
+            WHERE NOT EXISTS (SELECT 1 FROM job_locks WHERE name = :name)
+            """, nativeQuery = true)
+    void insertIfAbsent(@Param("name") String name, @Param("until") Instant until, @Param("owner") String owner);
+
+    @Modifying
+    @Query("UPDATE JobLock l SET l.lockedUntil = :until, l.lockedBy = :owner WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquire(@Param("name") String name, @Param("owner") String owner, @Param("now") Instant now, @Param("until") Instant until);
+
+    @Modifying
+    @Query("UPDATE JobLock l SET l.lockedUntil = :now WHERE l.name = :name AND l.lockedBy = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") Instant now);
+
+}
\ No newline at end of file
@@ -10,19 +10,22 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.Instant;
 import java.util.*;
 
 @Entity
+@DynamicUpdate
 @Table(name = "notes")
 @NoArgsConstructor
 @Data
 @JsonIgnoreProperties({"user", "tags", "comments", "flames"})
-@ToString(exclude = {"user", "tags", "comments", "flames"})
-@EqualsAndHashCode(exclude = {"user", "tags", "comments", "flames"})
+@ToString(exclude = {"user", "tags", "comments", "flames", "markdown"})
+@EqualsAndHashCode(exclude = {"user", "tags", "comments", "flames", "markdown"})
 public class Note {
 
     @Id
@@ -38,10 +41,14 @@ public class Note {
 
     private Instant modifiedAt = Instant.now();
 
+    @UpdateTimestamp
+    private Instant updatedAt = Instant.now();
+
     private String title;
 
     private String description;
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
     private String markdown;
 
@@ -55,12 +62,17 @@ public class Note {
     @JoinTable(name = "note_tags", joinColumns = @JoinColumn(name = "note_id"), inverseJoinColumns = @JoinColumn(name = "tag_id"))
     private List<Tag> tags = new ArrayList<>();
 
+    @Column(columnDefinition = "TEXT")
+    private String tagsText;
+
     @OneToMany(mappedBy = "note", orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Comment> comments = new ArrayList<>();
+    @Column(updatable = false)
     private int commentsCount = 0;
 
     @OneToMany(mappedBy = "note", orphanRemoval = true, fetch = FetchType.LAZY)
     private Set<Flame> flames = new HashSet<>();
+    @Column(updatable = false)
     private int flamesCount = 0;
 
     public Note(User user, String title, String description, String markdown, boolean closed, boolean hidden, List<Tag> tags) {
@@ -70,7 +82,12 @@ public class Note {
         this.hidden = hidden;
         if (description != null) this.description = description;
         if (markdown != null) this.markdown = markdown;
-        if (tags != null) this.tags = tags;
+        if (tags != null) setTags(tags);
+    }
+
+    public void setTags(List<Tag> tags) {
+        this.tags = tags;
+        this.tagsText = tags != null ? String.join(" ", tags.stream().map(Tag::getName).toList()) : null;
     }
 
 }
\ No newline at end of file
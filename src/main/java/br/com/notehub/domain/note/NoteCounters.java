@@ -0,0 +1,7 @@
+package br.com.notehub.domain.note;
+
+public record NoteCounters(
+        int commentsCount,
+        int flamesCount
+) {
+}
\ No newline at end of file
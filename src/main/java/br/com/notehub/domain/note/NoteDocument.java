@@ -0,0 +1,17 @@
+package br.com.notehub.domain.note;
+
+import java.util.UUID;
+
+public record NoteDocument(
+        UUID id,
+        String title,
+        String description,
+        String markdown,
+        String tags,
+        UUID authorId,
+        String authorUsername,
+        Boolean authorPrivate,
+        boolean hidden,
+        boolean closed
+) {
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package br.com.notehub.domain.note;
+
+import java.util.UUID;
+
+public record NoteExcerpt(
+        UUID id,
+        String title,
+        String description,
+        String markdown
+) {
+}
\ No newline at end of file
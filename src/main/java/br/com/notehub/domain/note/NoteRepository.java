@@ -2,12 +2,13 @@ package br.com.notehub.domain.note;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,10 +18,144 @@ public interface NoteRepository extends JpaRepository<Note, UUID> {
     @Query("SELECT n FROM Note n LEFT JOIN FETCH n.user LEFT JOIN FETCH n.tags WHERE n.id = :id")
     Optional<Note> findNote(@Param("id") UUID id);
 
+    @Query("SELECT new br.com.notehub.domain.note.NoteVersion(n.id, u.id, n.hidden, u.profilePrivate, n.updatedAt, u.updatedAt) FROM Note n LEFT JOIN n.user u WHERE n.id = :id")
+    Optional<NoteVersion> findVersion(@Param("id") UUID id);
+
+    @Query("SELECT new br.com.notehub.domain.note.NoteCounters(n.commentsCount, n.flamesCount) FROM Note n WHERE n.id = :id")
+    Optional<NoteCounters> findCounters(@Param("id") UUID id);
+
+    @Query("SELECT DISTINCT n FROM Note n LEFT JOIN FETCH n.tags WHERE n.id IN :ids")
+    List<Note> findAllWithTagsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("""
+            SELECT new br.com.notehub.domain.note.NoteSummary(
+                n.id, n.title, n.description, n.createdAt, n.modifiedAt, n.modified, n.closed, n.hidden, n.commentsCount, n.flamesCount,
+                u.createdAt, u.username, u.displayName, u.avatar, u.banner, u.message,
+                u.notesCount, u.followersCount, u.followingCount, u.profilePrivate, u.dev, u.sponsor, u.blocked
+            )
+            FROM Note n
+            LEFT JOIN n.user u
+            WHERE n.id IN :ids
+            """)
+    List<NoteSummary> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("""
+            SELECT new br.com.notehub.domain.note.NoteDocument(
+                n.id, n.title, n.description, n.markdown, n.tagsText, u.id, u.username, u.profilePrivate, n.hidden, n.closed
+            )
+            FROM Note n
+            LEFT JOIN n.user u
+            WHERE n.id IN :ids
+            """)
+    List<NoteDocument> findDocumentsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Janela em torno do primeiro termo encontrado, sem acentos como no analisador; sem ocorrência, o MOD zera o sentinela e o trecho começa no início.
+    @Query("""
+            SELECT new br.com.notehub.domain.note.NoteExcerpt(
+                n.id, n.title, n.description,
+                SUBSTRING(
+                    n.markdown,
+                    GREATEST(MOD(LEAST(
+                        COALESCE(NULLIF(LOCATE(:first, FUNCTION('TRANSLATE', LOWER(n.markdown), 'áàâãäåéèêëíìîïóòôõöúùûüçñ', 'aaaaaaeeeeiiiiooooouuuucn')), 0), 2147483647),
+                        COALESCE(NULLIF(LOCATE(:second, FUNCTION('TRANSLATE', LOWER(n.markdown), 'áàâãäåéèêëíìîïóòôõöúùûüçñ', 'aaaaaaeeeeiiiiooooouuuucn')), 0), 2147483647),
+                        COALESCE(NULLIF(LOCATE(:third, FUNCTION('TRANSLATE', LOWER(n.markdown), 'áàâãäåéèêëíìîïóòôõöúùûüçñ', 'aaaaaaeeeeiiiiooooouuuucn')), 0), 2147483647)
+                    ), 2147483647) - :radius, 1),
+                    :length
+                )
+            )
+            FROM Note n
+            WHERE n.id IN :ids
+            """)
+    List<NoteExcerpt> findExcerptsByIdIn(@Param("ids") Collection<UUID> ids,
+                                         @Param("first") String first,
+                                         @Param("second") String second,
+                                         @Param("third") String third,
+                                         @Param("radius") int radius,
+                                         @Param("length") int length);
+
+    @Query("SELECT n.id FROM Note n WHERE n.id > :after ORDER BY n.id")
+    List<UUID> findIdsAfter(@Param("after") UUID after, Pageable pageable);
+
+    @Query("SELECT n.id FROM Note n WHERE n.user.id = :id AND n.id > :after ORDER BY n.id")
+    List<UUID> findIdsByUserIdAfter(@Param("id") UUID id, @Param("after") UUID after, Pageable pageable);
+
+    @Query("SELECT new br.com.notehub.domain.note.NoteTag(n.id, t.name) FROM Note n JOIN n.tags t WHERE n.id IN :ids")
+    List<NoteTag> findTagsByNoteIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT new br.com.notehub.domain.note.NoteTagUsage(n.id, n.createdAt, t.name) FROM Note n JOIN n.tags t WHERE n.user.id = :id AND n.hidden = false")
+    List<NoteTagUsage> findPublicTagUsagesByUserId(@Param("id") UUID id);
+
+    @Query(value = """
+            SELECT n.id FROM notes n
+            LEFT JOIN users u ON u.id = n.user_id
+            WHERE (u.id IS NULL OR u.profile_private = false)
+            AND n.hidden = false
+            AND n.search_vector @@ to_tsquery('portuguese', :q)
+            ORDER BY ts_rank(n.search_vector, to_tsquery('portuguese', :q)) DESC, n.created_at DESC
+            """, countQuery = """
+            SELECT COUNT(*) FROM notes n
+            LEFT JOIN users u ON u.id = n.user_id
+            WHERE (u.id IS NULL OR u.profile_private = false)
+            AND n.hidden = false
+            AND n.search_vector @@ to_tsquery('portuguese', :q)
+            """, nativeQuery = true)
+    Page<UUID> rankPublicNotesByText(Pageable pageable, @Param("q") String q);
+
+    @Query(value = """
+            SELECT n.id FROM notes n
+            WHERE n.user_id = :id
+            AND n.search_vector @@ to_tsquery('portuguese', :q)
+            ORDER BY ts_rank(n.search_vector, to_tsquery('portuguese', :q)) DESC, n.created_at DESC
+            """, countQuery = """
+            SELECT COUNT(*) FROM notes n
+            WHERE n.user_id = :id
+            AND n.search_vector @@ to_tsquery('portuguese', :q)
+            """, nativeQuery = true)
+    Page<UUID> rankPrivateNotesByText(Pageable pageable, @Param("id") UUID id, @Param("q") String q);
+
+    @Query(value = """
+            SELECT n.id FROM notes n
+            JOIN users u ON u.id = n.user_id
+            WHERE u.username = :username
+            AND n.search_vector @@ to_tsquery('portuguese', :q)
+            AND (CAST(:tag AS TEXT) IS NULL OR EXISTS (
+                SELECT 1 FROM note_tags nt
+                JOIN tags t ON t.id = nt.tag_id
+                WHERE nt.note_id = n.id
+                AND LOWER(t.name) LIKE LOWER(CONCAT('%', CAST(:tag AS TEXT), '%'))
+            ))
+            AND (CAST(:type AS TEXT) IS NULL AND n.hidden = false OR (
+                (CAST(:type AS TEXT) = 'open' AND n.closed = false AND n.hidden = false) OR
+                (CAST(:type AS TEXT) = 'closed' AND n.closed = true AND n.hidden = false) OR
+                (CAST(:type AS TEXT) = 'hidden' AND n.hidden = true)
+            ))
+            ORDER BY ts_rank(n.search_vector, to_tsquery('portuguese', :q)) DESC, n.created_at DESC
+            """, countQuery = """
+            SELECT COUNT(*) FROM notes n
+            JOIN users u ON u.id = n.user_id
+            WHERE u.username = :username
+            AND n.search_vector @@ to_tsquery('portuguese', :q)
+            AND (CAST(:tag AS TEXT) IS NULL OR EXISTS (
+                SELECT 1 FROM note_tags nt
+                JOIN tags t ON t.id = nt.tag_id
+                WHERE nt.note_id = n.id
+                AND LOWER(t.name) LIKE LOWER(CONCAT('%', CAST(:tag AS TEXT), '%'))
+            ))
+            AND (CAST(:type AS TEXT) IS NULL AND n.hidden = false OR (
+                (CAST(:type AS TEXT) = 'open' AND n.closed = false AND n.hidden = false) OR
+                (CAST(:type AS TEXT) = 'closed' AND n.closed = true AND n.hidden = false) OR
+                (CAST(:type AS TEXT) = 'hidden' AND n.hidden = true)
+            ))
+            """, nativeQuery = true)
+    Page<UUID> rankUserNotesByText(Pageable pageable,
+                                   @Param("username") String username,
+                                   @Param("q") String q,
+                                   @Param("tag") String tag,
+                                   @Param("type") String type);
+
     @Query("""
-            SELECT DISTINCT n FROM Note n
-            LEFT JOIN FETCH n.user u
-            LEFT JOIN FETCH n.tags t
+            SELECT n.id FROM Note n
+            LEFT JOIN n.user u
             WHERE (u IS NULL OR u.profilePrivate = false)
             AND n.hidden = false
             AND (
@@ -28,12 +163,11 @@ public interface NoteRepository extends JpaRepository<Note, UUID> {
                 :q IS NULL OR LOWER(n.description) LIKE LOWER(CONCAT('%', CAST(:q AS text), '%'))
             )
             """)
-    Page<Note> searchPublicNotesByTitleOrDescription(Pageable pageable, @Param("q") String q);
+    Page<UUID> searchPublicNoteIdsByTitleOrDescription(Pageable pageable, @Param("q") String q);
 
     @Query("""
-            SELECT DISTINCT n FROM Note n
-            LEFT JOIN FETCH n.user u
-            LEFT JOIN FETCH n.tags t
+            SELECT n.id FROM Note n
+            LEFT JOIN n.user u
             WHERE (u IS NULL OR u.profilePrivate = false)
             AND n.hidden = false
             AND (
@@ -48,12 +182,11 @@ public interface NoteRepository extends JpaRepository<Note, UUID> {
                 )
             )
             """)
-    Page<Note> searchPublicNotesByTag(Pageable pageable, @Param("q") String q);
+    Page<UUID> searchPublicNoteIdsByTag(Pageable pageable, @Param("q") String q);
 
     @Query("""
-            SELECT DISTINCT n FROM Note n
-            LEFT JOIN FETCH n.user u
-            LEFT JOIN FETCH n.tags t
+            SELECT n.id FROM Note n
+            LEFT JOIN n.user u
             WHERE u.id = :id
             AND (
                 LOWER(n.title) LIKE LOWER(CONCAT('%', :q, '%'))
@@ -65,12 +198,11 @@ public interface NoteRepository extends JpaRepository<Note, UUID> {
                 )
             )
             """)
-    Page<Note> searchPrivateNotesByTitleOrTag(Pageable pageable, @Param("id") UUID id, @Param("q") String q);
+    Page<UUID> searchPrivateNoteIdsByTitleOrTag(Pageable pageable, @Param("id") UUID id, @Param("q") String q);
 
     @Query("""
-            SELECT DISTINCT n FROM Note n
-            LEFT JOIN FETCH n.user u
-            LEFT JOIN FETCH n.tags t
+            SELECT n.id FROM Note n
+            LEFT JOIN n.user u
             WHERE
             u.id = :id
             AND
@@ -80,12 +212,11 @@ public interface NoteRepository extends JpaRepository<Note, UUID> {
                 WHERE note.id = n.id AND LOWER(tag.name) LIKE LOWER(CONCAT('%', :q, '%'))
             )
             """)
-    Page<Note> searchPrivateNotesByTag(Pageable pageable, UUID id, String q);
+    Page<UUID> searchPrivateNoteIdsByTag(Pageable pageable, UUID id, String q);
 
     @Query("""
-            SELECT DISTINCT n FROM Note n
-            LEFT JOIN FETCH n.user u
-            LEFT JOIN FETCH n.tags t
+            SELECT n.id FROM Note n
+            LEFT JOIN n.user u
             WHERE u.username = :username
             AND (
                 :q IS NULL OR LOWER(n.title) LIKE LOWER(CONCAT('%', CAST(:q AS text), '%')) OR
@@ -103,20 +234,20 @@ public interface NoteRepository extends JpaRepository<Note, UUID> {
                 (:type = 'hidden' AND n.hidden = true)
             ))
             """)
-    Page<Note> searchUserNotesBySpecs(Pageable pageable,
-                                      @Param("username") String username,
-                                      @Param("q") String q,
-                                      @Param("tag") String tag,
-                                      @Param("type") String type);
+    Page<UUID> searchUserNoteIdsBySpecs(Pageable pageable,
+                                        @Param("username") String username,
+                                        @Param("q") String q,
+                                        @Param("tag") String tag,
+                                        @Param("type") String type);
 
-    @EntityGraph(attributePaths = {"user", "tags"})
-    Page<Note> findAllByUserId(Pageable pageable, UUID id);
+    @Query("SELECT n.id FROM Note n WHERE n.user.id = :id")
+    Page<UUID> findIdsByUserId(Pageable pageable, @Param("id") UUID id);
 
-    @EntityGraph(attributePaths = {"user", "tags"})
-    Page<Note> findAllByUserProfilePrivateFalseAndUserUsernameAndHiddenFalse(Pageable pageable, String username);
+    @Query("SELECT n.id FROM Note n JOIN n.user u WHERE u.profilePrivate = false AND u.username = :username AND n.hidden = false")
+    Page<UUID> findIdsByUserProfilePrivateFalseAndUserUsernameAndHiddenFalse(Pageable pageable, @Param("username") String username);
 
-    @EntityGraph(attributePaths = {"user", "tags"})
-    Page<Note> findAllByUserUsernameAndHiddenFalse(Pageable pageable, String username);
+    @Query("SELECT n.id FROM Note n JOIN n.user u WHERE u.username = :username AND n.hidden = false")
+    Page<UUID> findIdsByUserUsernameAndHiddenFalse(Pageable pageable, @Param("username") String username);
 
     void deleteAllByUserId(UUID uuid);
 
@@ -3,13 +3,16 @@ package br.com.notehub.domain.note;
 import br.com.notehub.application.dto.request.note.CreateNoteREQ;
 import br.com.notehub.application.dto.response.note.DetailNoteRES;
 import br.com.notehub.application.dto.response.note.LowDetailNoteRES;
+import br.com.notehub.application.dto.response.note.NoteSnippetRES;
 import br.com.notehub.application.dto.response.page.PageRES;
+import br.com.notehub.domain.note.NoteVersion;
 import br.com.notehub.domain.user.User;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 @Service
 public interface NoteService {
@@ -46,14 +49,22 @@ public interface NoteService {
 
     PageRES<LowDetailNoteRES> findPrivateNotes(Pageable pageable, UUID idFromToken, String q);
 
+    PageRES<NoteSnippetRES> findPublicNoteSnippets(Pageable pageable, String q);
+
+    PageRES<NoteSnippetRES> findPrivateNoteSnippets(Pageable pageable, UUID idFromToken, String q);
+
     PageRES<LowDetailNoteRES> findPublicNotesByTag(Pageable pageable, String tag);
 
     PageRES<LowDetailNoteRES> findPrivateNotesByTag(Pageable pageable, UUID idFromToken, String tag);
 
     PageRES<LowDetailNoteRES> findUserNotesBySpecs(UUID idFromToken, Pageable pageable, String username, String q, String tag, String type);
 
+    NoteVersion getNoteVersion(UUID idFromToken, UUID idFromPath);
+
     DetailNoteRES getNote(UUID idFromToken, UUID idFromPath);
 
+    DetailNoteRES getNote(UUID idFromToken, UUID idFromPath, Predicate<NoteVersion> notModified);
+
     PageRES<LowDetailNoteRES> getAllUserNotesByUsername(Pageable pageable, String username);
 
     PageRES<LowDetailNoteRES> getAllUserNotesById(Pageable pageable, UUID idFromToken);
@@ -0,0 +1,39 @@
+package br.com.notehub.domain.note;
+
+import br.com.notehub.application.dto.response.user.DetailUserRES;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record NoteSummary(
+        UUID id,
+        String title,
+        String description,
+        Instant createdAt,
+        Instant modifiedAt,
+        boolean modified,
+        boolean closed,
+        boolean hidden,
+        int commentsCount,
+        int flamesCount,
+        DetailUserRES user
+) {
+    public NoteSummary(UUID id, String title, String description, Instant createdAt, Instant modifiedAt, boolean modified, boolean closed, boolean hidden, int commentsCount, int flamesCount,
+                       Instant userCreatedAt, String username, String displayName, String avatar, String banner, String message, Integer notesCount, Integer followersCount, Integer followingCount, Boolean profilePrivate, Boolean dev, Boolean sponsor, Boolean blocked) {
+        this(
+                id,
+                title,
+                description,
+                createdAt,
+                modifiedAt,
+                modified,
+                closed,
+                hidden,
+                commentsCount,
+                flamesCount,
+                username != null
+                        ? new DetailUserRES(userCreatedAt, username, displayName, avatar, banner, message, notesCount, followersCount, followingCount, profilePrivate, dev, sponsor, blocked)
+                        : null
+        );
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.notehub.domain.note;
+
+import java.util.UUID;
+
+public record NoteTag(UUID noteId, String name) {
+}
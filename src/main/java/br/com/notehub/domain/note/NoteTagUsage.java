@@ -0,0 +1,7 @@
+package br.com.notehub.domain.note;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record NoteTagUsage(UUID noteId, Instant createdAt, String name) {
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package br.com.notehub.domain.note;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+public record NoteVersion(
+        UUID id,
+        UUID authorId,
+        boolean hidden,
+        Boolean authorPrivate,
+        Instant updatedAt,
+        Instant authorUpdatedAt
+) {
+
+    public Instant lastModified() {
+        return authorUpdatedAt != null && authorUpdatedAt.isAfter(updatedAt) ? authorUpdatedAt : updatedAt;
+    }
+
+    public String etag() {
+        // Instantes com a precisão do banco, não em milissegundos: duas escritas no mesmo milissegundo geram ETags distintas.
+        String state = id + "|" + updatedAt + "|" + authorUpdatedAt;
+        return "\"" + UUID.nameUUIDFromBytes(state.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package br.com.notehub.domain.note.events;
+
+import java.util.UUID;
+
+public record NoteCreatedEvent(
+        UUID noteId
+) {
+}
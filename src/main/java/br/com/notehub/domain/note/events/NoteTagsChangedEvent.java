@@ -0,0 +1,11 @@
+package br.com.notehub.domain.note.events;
+
+import java.time.Instant;
+import java.util.List;
+
+public record NoteTagsChangedEvent(
+        List<String> before,
+        List<String> after,
+        Instant publishedAt
+) {
+}
\ No newline at end of file
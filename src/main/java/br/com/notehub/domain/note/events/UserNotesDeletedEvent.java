@@ -0,0 +1,8 @@
+package br.com.notehub.domain.note.events;
+
+import java.util.UUID;
+
+public record UserNotesDeletedEvent(
+        UUID userId
+) {
+}
\ No newline at end of file
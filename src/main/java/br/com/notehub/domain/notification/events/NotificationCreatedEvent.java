@@ -0,0 +1,8 @@
+package br.com.notehub.domain.notification.events;
+
+import br.com.notehub.application.dto.response.notification.DetailNotificationRES;
+
+import java.util.UUID;
+
+public record NotificationCreatedEvent(UUID toId, DetailNotificationRES notification) {
+}
@@ -0,0 +1,34 @@
+package br.com.notehub.domain.outbox;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "outbox_events")
+@NoArgsConstructor
+@Data
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    private Instant createdAt = Instant.now();
+
+    private String type;
+
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    private Instant publishedAt;
+
+    public OutboxEvent(String type, String payload) {
+        this.type = type;
+        this.payload = payload;
+    }
+
+}
@@ -0,0 +1,38 @@
+package br.com.notehub.domain.outbox;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "processed_events")
+@NoArgsConstructor
+@Data
+public class ProcessedEvent implements Persistable<UUID> {
+
+    @Id
+    private UUID eventId;
+
+    private Instant processedAt = Instant.now();
+
+    public ProcessedEvent(UUID eventId) {
+        this.eventId = eventId;
+    }
+
+    @Override
+    public UUID getId() {
+        return eventId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+}
@@ -0,0 +1,19 @@
+package br.com.notehub.domain.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Repository
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, UUID> {
+
+    @Modifying
+    @Query("DELETE FROM ProcessedEvent e WHERE e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") Instant before);
+
+}
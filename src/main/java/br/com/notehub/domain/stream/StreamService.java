@@ -0,0 +1,20 @@
+package br.com.notehub.domain.stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Service
+public interface StreamService {
+
+    SseEmitter subscribe(UUID userId, String lastEventId);
+
+    void publish(Collection<UUID> userIds, String type, Object data);
+
+    void deliver(UUID eventId, Collection<UUID> userIds, String type, String data);
+
+    void heartbeat();
+
+}
@@ -8,6 +8,7 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -16,9 +17,9 @@ import java.util.UUID;
 @Table(name = "tags")
 @NoArgsConstructor
 @Data
-@JsonIgnoreProperties({"id", "notes"})
-@ToString(exclude = {"id", "notes"})
-@EqualsAndHashCode(exclude = {"id", "notes"})
+@JsonIgnoreProperties({"id", "notes", "orphanedAt"})
+@ToString(exclude = {"id", "notes", "orphanedAt"})
+@EqualsAndHashCode(exclude = {"id", "notes", "orphanedAt"})
 public class Tag {
 
     @Id
@@ -30,6 +31,8 @@ public class Tag {
 
     private String name;
 
+    private Instant orphanedAt;
+
     public Tag(String name) {
         this.name = name;
     }
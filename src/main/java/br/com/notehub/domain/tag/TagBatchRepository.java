@@ -0,0 +1,12 @@
+package br.com.notehub.domain.tag;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TagBatchRepository {
+
+    void insertIgnoringExisting(Collection<String> names);
+
+    List<Tag> lockAllByNameIn(Collection<String> names);
+
+}
\ No newline at end of file
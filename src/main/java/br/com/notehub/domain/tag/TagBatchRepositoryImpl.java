@@ -0,0 +1,65 @@
+package br.com.notehub.domain.tag;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class TagBatchRepositoryImpl implements TagBatchRepository {
+
+    private static final String UPSERT = """
+            INSERT INTO tags (id, name)
+            VALUES %s
+            ON CONFLICT (name) DO NOTHING
+            """;
+
+    private static final String INSERT_MISSING = """
+            INSERT INTO tags (id, name)
+            SELECT v.id, v.name FROM (VALUES %s) AS v(id, name)
+            WHERE NOT EXISTS (SELECT 1 FROM tags t WHERE t.name = v.name)
+            """;
+
+    private static final String LOCK_BY_NAME = "SELECT * FROM tags WHERE name IN (:names) %s";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    private Boolean postgres;
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equalsIgnoreCase(product);
+        }
+        return postgres;
+    }
+
+    @Override
+    public void insertIgnoringExisting(Collection<String> names) {
+        if (names.isEmpty()) return;
+        String values = String.join(", ", Collections.nCopies(names.size(), "(CAST(? AS UUID), ?)"));
+        List<Object> args = new ArrayList<>(names.size() * 2);
+        names.forEach(name -> {
+            args.add(UUID.randomUUID().toString());
+            args.add(name);
+        });
+        jdbcTemplate.update((isPostgres() ? UPSERT : INSERT_MISSING).formatted(values), args.toArray());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Tag> lockAllByNameIn(Collection<String> names) {
+        if (names.isEmpty()) return new ArrayList<>();
+        return entityManager.createNativeQuery(LOCK_BY_NAME.formatted(isPostgres() ? "FOR KEY SHARE" : "FOR UPDATE"), Tag.class)
+                .setParameter("names", names)
+                .getResultList();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package br.com.notehub.domain.tag;
+
+public record TagCount(
+        String name,
+        long count
+) {
+}
\ No newline at end of file
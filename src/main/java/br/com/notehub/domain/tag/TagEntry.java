@@ -0,0 +1,9 @@
+package br.com.notehub.domain.tag;
+
+import java.util.UUID;
+
+public record TagEntry(
+        UUID id,
+        String name
+) {
+}
\ No newline at end of file
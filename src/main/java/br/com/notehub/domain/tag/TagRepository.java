@@ -1,22 +1,36 @@
 package br.com.notehub.domain.tag;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface TagRepository extends JpaRepository<Tag, UUID> {
+public interface TagRepository extends JpaRepository<Tag, UUID>, TagBatchRepository {
 
     Optional<Tag> findByName(String name);
 
-    List<Tag> findAllByNameIn(List<String> names);
+    List<Tag> findAllByNameIn(Collection<String> names);
 
-    List<Tag> findAllByNotesUserId(UUID id);
+    @Query("SELECT new br.com.notehub.domain.tag.TagEntry(t.id, t.name) FROM Tag t")
+    List<TagEntry> findAllEntries();
+
+    @Query("SELECT t.name FROM Tag t WHERE t.notes IS NOT EMPTY ORDER BY t.name")
+    List<String> findAllNamesInUse();
+
+    @Query("SELECT new br.com.notehub.domain.tag.TagCount(t.name, COUNT(n)) FROM Tag t JOIN t.notes n WHERE n.hidden = false GROUP BY t.name")
+    List<TagCount> countPublicNotes();
 
-    List<Tag> findAllByNotesUserIdAndNotesHiddenTrue(UUID id);
+    @Query("SELECT new br.com.notehub.domain.tag.TagUsage(t.name, n.createdAt) FROM Tag t JOIN t.notes n WHERE n.hidden = false AND n.createdAt > :since")
+    List<TagUsage> findPublicUsagesSince(@Param("since") Instant since);
+
+    List<Tag> findAllByNotesUserId(UUID id);
 
     List<Tag> findAllByNotesUserUsernameAndNotesHiddenFalseOrderByNameAsc(String username);
 
@@ -0,0 +1,29 @@
+package br.com.notehub.domain.tag;
+
+import br.com.notehub.application.dto.response.tag.TagStatsRES;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+public interface TagService {
+
+    List<Tag> findOrCreate(Collection<String> names);
+
+    void collectOrphans();
+
+    List<String> getAllNames();
+
+    List<TagStatsRES> getTopTags(int limit);
+
+    List<TagStatsRES> getTagsByPrefix(String prefix, int limit);
+
+    List<String> autocomplete(String prefix, int limit);
+
+    void onNoteTagsChanged(List<String> before, List<String> after, Instant publishedAt);
+
+    void refresh();
+
+}
\ No newline at end of file
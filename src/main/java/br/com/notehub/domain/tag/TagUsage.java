@@ -0,0 +1,9 @@
+package br.com.notehub.domain.tag;
+
+import java.time.Instant;
+
+public record TagUsage(
+        String name,
+        Instant usedAt
+) {
+}
\ No newline at end of file
@@ -13,6 +13,8 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -23,6 +25,7 @@ import java.time.ZoneOffset;
 import java.util.*;
 
 @Entity
+@DynamicUpdate
 @Table(name = "users")
 @NoArgsConstructor
 @Data
@@ -68,6 +71,9 @@ public class User implements UserDetails {
 
     private Instant createdAt = LocalDateTime.now().toInstant(ZoneOffset.of("-03:00"));
 
+    @UpdateTimestamp
+    private Instant updatedAt = Instant.now();
+
     private boolean active;
 
     @ElementCollection(fetch = FetchType.LAZY)
@@ -84,6 +90,7 @@ public class User implements UserDetails {
 
     @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
     private List<Note> notes = new ArrayList<>();
+    @Column(updatable = false)
     private int notesCount = 0;
 
     @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
@@ -104,8 +111,10 @@ public class User implements UserDetails {
     @OneToMany(mappedBy = "related")
     private List<Notification> relatedNotifications = new ArrayList<>();
 
+    @Column(updatable = false)
     private int followingCount = 0;
 
+    @Column(updatable = false)
     private int followersCount = 0;
 
     @Override
@@ -23,6 +23,9 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     Optional<User> findByUsername(String username);
 
+    @Query("SELECT new br.com.notehub.domain.user.UserVersion(u.id, u.active, u.updatedAt) FROM User u WHERE u.username = :username")
+    Optional<UserVersion> findVersionByUsername(@Param("username") String username);
+
     List<User> findAllByActiveTrue();
 
     @Query("""
@@ -37,18 +40,52 @@ public interface UserRepository extends JpaRepository<User, UUID> {
             """)
     Page<User> findAllActiveUsersByUsernameOrDisplayName(Pageable pageable, @Param("q") String q);
 
+    @Query("SELECT u.id FROM User u WHERE u.id > :after ORDER BY u.id")
+    List<UUID> findIdsAfter(@Param("after") UUID after, Pageable pageable);
+
     @Query("SELECT u FROM User u WHERE u.createdAt < :nowMinus7Days AND u.active = false")
     List<User> findUsersWithExpiredActivationTime(@Param("nowMinus7Days") Instant nowMinus7Days);
 
-    @Query("""
-            SELECT DISTINCT u FROM User u
-            WHERE u.id IN :ids
+    @Query(value = """
+            SELECT u FROM User u
+            JOIN Follow f ON f.following = u
+            WHERE f.follower.id = :id
+              AND (
+                  :q IS NULL
+                  OR LOWER(u.username) LIKE LOWER(CONCAT('%', CAST(:q AS text), '%'))
+                  OR LOWER(u.displayName) LIKE LOWER(CONCAT('%', CAST(:q AS text), '%'))
+              )
+            """, countQuery = """
+            SELECT COUNT(u) FROM User u
+            JOIN Follow f ON f.following = u
+            WHERE f.follower.id = :id
+              AND (
+                  :q IS NULL
+                  OR LOWER(u.username) LIKE LOWER(CONCAT('%', CAST(:q AS text), '%'))
+                  OR LOWER(u.displayName) LIKE LOWER(CONCAT('%', CAST(:q AS text), '%'))
+              )
+            """)
+    Page<User> findAllFollowedBy(Pageable pageable, @Param("q") String q, @Param("id") UUID followerId);
+
+    @Query(value = """
+            SELECT u FROM User u
+            JOIN Follow f ON f.follower = u
+            WHERE f.following.id = :id
+              AND (
+                  :q IS NULL
+                  OR LOWER(u.username) LIKE LOWER(CONCAT('%', CAST(:q AS text), '%'))
+                  OR LOWER(u.displayName) LIKE LOWER(CONCAT('%', CAST(:q AS text), '%'))
+              )
+            """, countQuery = """
+            SELECT COUNT(u) FROM User u
+            JOIN Follow f ON f.follower = u
+            WHERE f.following.id = :id
               AND (
                   :q IS NULL
                   OR LOWER(u.username) LIKE LOWER(CONCAT('%', CAST(:q AS text), '%'))
                   OR LOWER(u.displayName) LIKE LOWER(CONCAT('%', CAST(:q AS text), '%'))
               )
             """)
-    Page<User> findAllByIdIn(Pageable pageable, @Param("q") String q, @Param("ids") List<UUID> ids);
+    Page<User> findAllFollowersOf(Pageable pageable, @Param("q") String q, @Param("id") UUID followingId);
 
 }
\ No newline at end of file
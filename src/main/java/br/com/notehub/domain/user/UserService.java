@@ -45,6 +45,8 @@ public interface UserService {
 
     User getUser(String username);
 
+    UserVersion getUserVersion(String username);
+
     List<User> getAllActiveUsers();
 
     Page<User> findAll(Pageable pageable, String q);
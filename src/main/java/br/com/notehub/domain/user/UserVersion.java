@@ -0,0 +1,19 @@
+package br.com.notehub.domain.user;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+public record UserVersion(
+        UUID id,
+        boolean active,
+        Instant updatedAt
+) {
+
+    public String etag() {
+        // Mesma regra de NoteVersion: o instante completo, para que duas escritas no mesmo milissegundo não compartilhem a ETag.
+        String state = id + "|" + updatedAt;
+        return "\"" + UUID.nameUUIDFromBytes(state.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+}
\ No newline at end of file
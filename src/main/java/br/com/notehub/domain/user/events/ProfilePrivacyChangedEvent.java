@@ -0,0 +1,9 @@
+package br.com.notehub.domain.user.events;
+
+import java.util.UUID;
+
+public record ProfilePrivacyChangedEvent(
+        UUID userId,
+        boolean profilePrivate
+) {
+}
@@ -0,0 +1,9 @@
+package br.com.notehub.domain.user.events;
+
+import java.util.UUID;
+
+public record UserChangedEvent(
+        UUID userId,
+        boolean notesAffected
+) {
+}
\ No newline at end of file
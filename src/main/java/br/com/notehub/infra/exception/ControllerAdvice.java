@@ -256,6 +256,20 @@ public class ControllerAdvice {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errors.stream().map(CustomResponse::new).toList());
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    private ResponseEntity<List<CustomResponse>> handleInvalidCursorException(InvalidCursorException ex) {
+        List<FieldError> errors = new ArrayList<>();
+        errors.add(new FieldError("parameter", "cursor", ex.getMessage()));
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors.stream().map(CustomResponse::new).toList());
+    }
+
+    @ExceptionHandler(FeedPageNotSupportedException.class)
+    private ResponseEntity<List<CustomResponse>> handleFeedPageNotSupportedException(FeedPageNotSupportedException ex) {
+        List<FieldError> errors = new ArrayList<>();
+        errors.add(new FieldError("pageable", "page", ex.getMessage()));
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors.stream().map(CustomResponse::new).toList());
+    }
+
     @ExceptionHandler(UserHasNoExternalIdentity.class)
     private ResponseEntity<List<CustomResponse>> handleHostNotAllowedException(UserHasNoExternalIdentity ex) {
         List<FieldError> errors = new ArrayList<>();
@@ -95,6 +95,18 @@ public class CustomExceptions {
         }
     }
 
+    public static class InvalidCursorException extends BusinessException {
+        public InvalidCursorException() {
+            super("Cursor inválido.");
+        }
+    }
+
+    public static class FeedPageNotSupportedException extends BusinessException {
+        public FeedPageNotSupportedException() {
+            super("Páginas além da primeira só por '/feed/scroll'.");
+        }
+    }
+
     public static class UserHasNoExternalIdentity extends BusinessException {
         public UserHasNoExternalIdentity() {
             super("Sem vínculo externo.");
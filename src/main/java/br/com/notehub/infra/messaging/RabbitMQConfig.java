@@ -1,9 +1,20 @@
 package br.com.notehub.infra.messaging;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.retry.RejectAndDontRequeueRecoverer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -25,6 +36,18 @@ public class RabbitMQConfig {
     @Value("${broker.queue.topic.name}")
     private String topic;
 
+    @Value("${broker.queue.feed.name}")
+    private String feed;
+
+    @Value("${broker.queue.feed.max-attempts}")
+    private int feedMaxAttempts;
+
+    @Value("${broker.exchange.feed.name}")
+    private String feedExchange;
+
+    @Value("${broker.exchange.stream.name}")
+    private String streamExchange;
+
     @Bean
     public Queue activationQueue() {
         return new Queue(activation, true);
@@ -50,6 +73,57 @@ public class RabbitMQConfig {
         return new Queue(topic, true);
     }
 
+    @Bean
+    public Queue feedQueue() {
+        return QueueBuilder.durable(feed)
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(feed + ".dlq")
+                .build();
+    }
+
+    @Bean
+    public Queue feedDeadLetterQueue() {
+        return new Queue(feed + ".dlq", true);
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory feedListenerContainerFactory(SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setDefaultRequeueRejected(false);
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(feedMaxAttempts)
+                .backOffOptions(1000, 2.0, 10000)
+                .recoverer(new RejectAndDontRequeueRecoverer())
+                .build());
+        return factory;
+    }
+
+    @Bean
+    public TopicExchange feedExchange() {
+        return new TopicExchange(feedExchange, true, false);
+    }
+
+    @Bean
+    public Binding feedBinding() {
+        return BindingBuilder.bind(feedQueue()).to(feedExchange()).with("feed.#");
+    }
+
+    @Bean
+    public Queue streamQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public FanoutExchange streamExchange() {
+        return new FanoutExchange(streamExchange, true, false);
+    }
+
+    @Bean
+    public Binding streamBinding() {
+        return BindingBuilder.bind(streamQueue()).to(streamExchange());
+    }
+
     @Bean
     public Jackson2JsonMessageConverter messageConverter() {
         ObjectMapper objectMapper = new ObjectMapper();
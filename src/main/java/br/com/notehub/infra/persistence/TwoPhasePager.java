@@ -0,0 +1,22 @@
+package br.com.notehub.infra.persistence;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import java.util.*;
+import java.util.function.Function;
+
+public final class TwoPhasePager {
+
+    private TwoPhasePager() {
+    }
+
+    public static <T, ID> Page<T> page(Page<ID> ids, Function<Collection<ID>, List<T>> loader, Function<T, ID> idOf) {
+        if (ids.isEmpty()) return new PageImpl<>(List.of(), ids.getPageable(), ids.getTotalElements());
+        Map<ID, T> loaded = new HashMap<>();
+        loader.apply(ids.getContent()).forEach(entity -> loaded.putIfAbsent(idOf.apply(entity), entity));
+        List<T> content = ids.getContent().stream().map(loaded::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(content, ids.getPageable(), ids.getTotalElements());
+    }
+
+}
@@ -1,5 +1,6 @@
 package br.com.notehub.infra.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -66,6 +67,7 @@ public class SecurityConfig {
                 .headers(httpSecurityHeadersConfigurer -> httpSecurityHeadersConfigurer.frameOptions(frameOptionsConfig -> frameOptionsConfig.disable()))
                 .sessionManagement((sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS)))
                 .authorizeHttpRequests(req -> {
+                    req.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
                     req.requestMatchers(PUBLIC_ALL_ROUTES).permitAll();
                     req.requestMatchers(HttpMethod.POST, PUBLIC_POST_ROUTES).permitAll();
                     req.requestMatchers(HttpMethod.DELETE, PUBLIC_DELETE_ROUTES).permitAll();
@@ -0,0 +1,3 @@
+ALTER TABLE feed ADD COLUMN actor_ids TEXT;
+
+UPDATE feed SET actor_ids = top_actor_ids;
\ No newline at end of file
@@ -0,0 +1,5 @@
+CREATE TABLE job_locks (
+    name VARCHAR(100) PRIMARY KEY,
+    locked_until TIMESTAMPTZ NOT NULL,
+    locked_by VARCHAR(255) NOT NULL
+);
\ No newline at end of file
@@ -0,0 +1,6 @@
+DROP INDEX IF EXISTS idx_follows_follower_id;
+DROP INDEX IF EXISTS idx_follows_following_id;
+
+CREATE INDEX idx_follows_follower_created ON follows (follower_id, created_at DESC, following_id DESC);
+
+CREATE INDEX idx_follows_following_created ON follows (following_id, created_at DESC, follower_id DESC);
\ No newline at end of file
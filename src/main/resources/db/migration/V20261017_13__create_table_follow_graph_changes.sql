@@ -0,0 +1,9 @@
+CREATE TABLE follow_graph_changes (
+    id BIGSERIAL PRIMARY KEY,
+    follower_id UUID NOT NULL,
+    following_id UUID,
+    linked BOOLEAN NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_follow_graph_changes_created ON follow_graph_changes (created_at);
\ No newline at end of file
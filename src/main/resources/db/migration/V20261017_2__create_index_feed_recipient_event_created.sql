@@ -0,0 +1,7 @@
+DROP INDEX IF EXISTS idx_feed_recipient_created;
+
+CREATE INDEX idx_feed_recipient_created ON feed (recipient_id, created_at DESC, id DESC);
+
+CREATE INDEX idx_feed_recipient_event_created ON feed (recipient_id, event, created_at DESC, id DESC);
+
+CREATE INDEX idx_actor_events_created ON actor_events (created_at DESC, id DESC);
@@ -0,0 +1,18 @@
+ALTER TABLE feed ADD COLUMN actors_count INTEGER NOT NULL DEFAULT 1;
+ALTER TABLE feed ADD COLUMN top_actor_ids TEXT;
+
+UPDATE feed SET top_actor_ids = actor_id::text;
+
+UPDATE feed f
+SET note_id = fl.note_id
+FROM flames fl
+WHERE f.flame_id = fl.id
+  AND f.note_id IS NULL;
+
+UPDATE feed f
+SET note_id = c.note_id
+FROM comments c
+WHERE f.comment_id = c.id
+  AND f.note_id IS NULL;
+
+CREATE INDEX idx_feed_note_event_created ON feed (note_id, event, created_at DESC) WHERE note_id IS NOT NULL;
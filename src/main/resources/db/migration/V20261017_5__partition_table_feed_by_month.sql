@@ -0,0 +1,55 @@
+ALTER TABLE feed RENAME TO feed_legacy;
+ALTER TABLE feed_legacy RENAME CONSTRAINT feed_pkey TO feed_legacy_pkey;
+
+DROP INDEX IF EXISTS idx_feed_recipient_created;
+DROP INDEX IF EXISTS idx_feed_recipient_event_created;
+DROP INDEX IF EXISTS idx_feed_note_event_created;
+
+CREATE TABLE feed (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    event VARCHAR(50) NOT NULL,
+    recipient_id UUID NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    actor_id UUID NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    related_user_id UUID REFERENCES users (id) ON DELETE CASCADE,
+    note_id UUID REFERENCES notes (id) ON DELETE CASCADE,
+    flame_id UUID REFERENCES flames (id) ON DELETE CASCADE,
+    comment_id UUID REFERENCES comments (id) ON DELETE CASCADE,
+    actors_count INTEGER NOT NULL DEFAULT 1,
+    top_actor_ids TEXT,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE feed_default PARTITION OF feed DEFAULT;
+
+DO $$
+DECLARE
+    month DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM feed_legacy), NOW()) AT TIME ZONE 'UTC')::date;
+    last_month DATE := (date_trunc('month', NOW() AT TIME ZONE 'UTC') + INTERVAL '2 months')::date;
+BEGIN
+    WHILE month <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF feed FOR VALUES FROM (%L) TO (%L)',
+            'feed_p' || to_char(month, 'YYYYMM'),
+            month::timestamp AT TIME ZONE 'UTC',
+            (month + INTERVAL '1 month')::timestamp AT TIME ZONE 'UTC'
+        );
+        month := (month + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO feed (id, created_at, event, recipient_id, actor_id, related_user_id, note_id, flame_id, comment_id, actors_count, top_actor_ids)
+SELECT id, created_at, event, recipient_id, actor_id, related_user_id, note_id, flame_id, comment_id, actors_count, top_actor_ids
+FROM feed_legacy;
+
+DROP TABLE feed_legacy;
+
+CREATE INDEX idx_feed_recipient_created ON feed (recipient_id, created_at DESC, id DESC);
+CREATE INDEX idx_feed_recipient_event_created ON feed (recipient_id, event, created_at DESC, id DESC);
+CREATE INDEX idx_feed_note_event_created ON feed (note_id, event, created_at DESC) WHERE note_id IS NOT NULL;
+
+CREATE TABLE job_checkpoints (
+    job_name VARCHAR(100) PRIMARY KEY,
+    last_key VARCHAR(255),
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,20 @@
+ALTER TABLE notes ADD COLUMN tags_text TEXT;
+
+UPDATE notes n
+SET tags_text = t.names
+FROM (
+    SELECT nt.note_id, string_agg(tg.name, ' ') AS names
+    FROM note_tags nt
+    JOIN tags tg ON tg.id = nt.tag_id
+    GROUP BY nt.note_id
+) t
+WHERE t.note_id = n.id;
+
+ALTER TABLE notes ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('portuguese', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('portuguese', coalesce(tags_text, '')), 'B') ||
+    setweight(to_tsvector('portuguese', coalesce(description, '')), 'B') ||
+    setweight(to_tsvector('portuguese', coalesce(markdown, '')), 'C')
+) STORED;
+
+CREATE INDEX idx_notes_search_vector ON notes USING GIN (search_vector);
@@ -0,0 +1,3 @@
+ALTER TABLE tags ADD COLUMN orphaned_at TIMESTAMPTZ;
+
+CREATE INDEX idx_tags_orphaned_at ON tags (orphaned_at) WHERE orphaned_at IS NOT NULL;
\ No newline at end of file
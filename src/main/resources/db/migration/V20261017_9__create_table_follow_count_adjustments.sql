@@ -0,0 +1,7 @@
+CREATE TABLE follow_count_adjustments (
+    job_id UUID NOT NULL,
+    counter VARCHAR(32) NOT NULL,
+    user_id UUID NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (job_id, counter, user_id)
+);
\ No newline at end of file
@@ -0,0 +1,28 @@
+package br.com.notehub;
+
+import br.com.notehub.application.geoip.GeoIpService;
+import br.com.notehub.domain.user.User;
+import br.com.notehub.domain.user.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public abstract class IntegrationTest {
+
+    @MockBean
+    protected GeoIpService geoIpService;
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    protected User createUser(String prefix) {
+        String username = prefix + System.nanoTime();
+        User user = User.signup(username + "@notehub.com.br", username, prefix.toUpperCase(), "123");
+        user.setActive(true);
+        return userRepository.save(user);
+    }
+
+}
\ No newline at end of file
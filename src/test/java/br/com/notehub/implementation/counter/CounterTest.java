@@ -0,0 +1,107 @@
+package br.com.notehub.implementation.counter;
+
+import br.com.notehub.IntegrationTest;
+import br.com.notehub.application.counter.Counter;
+import br.com.notehub.application.counter.CounterBuffer;
+import br.com.notehub.application.counter.CounterReconciler;
+import br.com.notehub.application.counter.CounterType;
+import br.com.notehub.domain.note.Note;
+import br.com.notehub.domain.note.NoteRepository;
+import br.com.notehub.domain.user.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CounterTest extends IntegrationTest {
+
+    private static final int THREADS = 8;
+    private static final int UPDATES = 25;
+
+    @Autowired
+    private Counter counter;
+
+    @Autowired
+    private CounterBuffer buffer;
+
+    @Autowired
+    private CounterReconciler reconciler;
+
+    @Autowired
+    private NoteRepository noteRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    private User author;
+    private Note note;
+
+    @BeforeEach
+    void setup() {
+        author = createUser("counter");
+        note = noteRepository.save(new Note(author, "Contadores", null, null, false, false, new ArrayList<>()));
+    }
+
+    private void concurrently(Runnable update) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS * UPDATES; i++) futures.add(executor.submit(update));
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldKeepExactCountsUnderConcurrentIncrements() throws Exception {
+        concurrently(() -> transactionTemplate.executeWithoutResult(status -> counter.updateFlamesCount(note, true)));
+        transactionTemplate.executeWithoutResult(status -> counter.updateFlamesCount(note, false));
+
+        assertThat(noteRepository.findById(note.getId()).orElseThrow().getFlamesCount()).isEqualTo(THREADS * UPDATES - 1);
+    }
+
+    @Test
+    void shouldFlushAccumulatedDeltasInBatches() throws Exception {
+        concurrently(() -> buffer.add(CounterType.USER_NOTES, author.getId(), 1));
+        buffer.add(CounterType.USER_FOLLOWERS, author.getId(), 3);
+        buffer.add(CounterType.USER_FOLLOWERS, author.getId(), -3);
+        assertThat(userRepository.findById(author.getId()).orElseThrow().getNotesCount()).isZero();
+
+        buffer.flush();
+
+        User flushed = userRepository.findById(author.getId()).orElseThrow();
+        assertThat(flushed.getNotesCount()).isEqualTo(THREADS * UPDATES);
+        assertThat(flushed.getFollowersCount()).isZero();
+    }
+
+    @Test
+    void shouldReconcileOnlyDivergentCounters() {
+        jdbcTemplate.update("UPDATE notes SET flames_count = 7 WHERE id = ?", note.getId());
+        double reconciled = registry.counter("counters.reconciled", "counter", "note_flames").count();
+
+        reconciler.run();
+
+        assertThat(noteRepository.findById(note.getId()).orElseThrow().getFlamesCount()).isZero();
+        assertThat(userRepository.findById(author.getId()).orElseThrow().getNotesCount()).isEqualTo(1);
+        assertThat(registry.counter("counters.reconciled", "counter", "note_flames").count()).isGreaterThanOrEqualTo(reconciled + 1);
+        assertThat(reconciler.run()).isEmpty();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package br.com.notehub.implementation.feed;
+
+import br.com.notehub.domain.feed.FeedAggregate;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FeedAggregationTest {
+
+    private final UUID recipient = UUID.randomUUID();
+
+    @Test
+    void shouldPrependNewActorAndIncrementCount() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        FeedAggregate aggregate = new FeedAggregate(UUID.randomUUID(), recipient, 1, List.of(a), List.of(a));
+
+        FeedAggregate updated = aggregate.with(b, 3);
+
+        assertThat(updated.actorsCount()).isEqualTo(2);
+        assertThat(updated.topActorIds()).containsExactly(b, a);
+    }
+
+    @Test
+    void shouldKeepOnlyTopActors() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        UUID d = UUID.randomUUID();
+        FeedAggregate aggregate = new FeedAggregate(UUID.randomUUID(), recipient, 7, List.of(c, b, a), List.of(a, b, c));
+
+        FeedAggregate updated = aggregate.with(d, 3);
+
+        assertThat(updated.actorsCount()).isEqualTo(8);
+        assertThat(updated.topActorIds()).containsExactly(d, c, b);
+    }
+
+    @Test
+    void shouldNotCountRepeatedActorTwice() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        FeedAggregate aggregate = new FeedAggregate(UUID.randomUUID(), recipient, 2, List.of(b, a), List.of(a, b));
+
+        FeedAggregate updated = aggregate.with(a, 3);
+
+        assertThat(updated.actorsCount()).isEqualTo(2);
+        assertThat(updated.topActorIds()).containsExactly(a, b);
+    }
+
+    @Test
+    void shouldNotCountActorOutsideTopActorsTwice() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        FeedAggregate aggregate = new FeedAggregate(UUID.randomUUID(), recipient, 3, List.of(c, b), List.of(a, b, c));
+
+        FeedAggregate updated = aggregate.with(a, 2);
+
+        assertThat(updated.actorsCount()).isEqualTo(3);
+        assertThat(updated.topActorIds()).containsExactly(a, c);
+        assertThat(updated.actorIds()).containsExactlyInAnyOrder(a, b, c);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package br.com.notehub.implementation.feed;
+
+import br.com.notehub.adapter.consumer.FeedConsumer;
+import br.com.notehub.adapter.consumer.dto.OutboxDTO;
+import br.com.notehub.domain.feed.FeedService;
+import br.com.notehub.domain.outbox.ProcessedEvent;
+import br.com.notehub.domain.outbox.ProcessedEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeedConsumerTest {
+
+    @Mock
+    private FeedService feeder;
+
+    @Mock
+    private ProcessedEventRepository processedRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private FeedConsumer consumer;
+
+    private final UUID noteId = UUID.randomUUID();
+    private OutboxDTO dto;
+
+    @BeforeEach
+    void setup() {
+        consumer = new FeedConsumer(feeder, processedRepository, transactionTemplate, new ObjectMapper());
+        dto = new OutboxDTO(UUID.randomUUID(), "NoteCreatedEvent", "{\"noteId\":\"" + noteId + "\"}");
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void shouldDispatchOnceClaimed() {
+        consumer.feedQueueListenner(dto);
+
+        verify(processedRepository).saveAndFlush(any(ProcessedEvent.class));
+        verify(feeder).onNoteCreated(noteId);
+    }
+
+    @Test
+    void shouldSkipEventClaimedByAnotherConsumer() {
+        when(processedRepository.saveAndFlush(any(ProcessedEvent.class))).thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        consumer.feedQueueListenner(dto);
+
+        verifyNoInteractions(feeder);
+    }
+
+}
\ No newline at end of file
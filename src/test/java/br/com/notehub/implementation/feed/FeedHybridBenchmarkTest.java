@@ -0,0 +1,135 @@
+package br.com.notehub.implementation.feed;
+
+import br.com.notehub.IntegrationTest;
+import br.com.notehub.domain.feed.ActorEventRepository;
+import br.com.notehub.domain.feed.FeedService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnabledIfSystemProperty(named = "feed.benchmark", matches = "true")
+public class FeedHybridBenchmarkTest extends IntegrationTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedHybridBenchmarkTest.class);
+
+    private static final int READS = 50;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 25, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Autowired
+    private FeedService service;
+
+    @Autowired
+    private ActorEventRepository actorEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private UUID insertUser(String username, int followersCount) {
+        UUID id = UUID.randomUUID();
+        jdbc.update("""
+                INSERT INTO users (id, email, username, display_name, password, profile_private, dev, sponsor, blocked, score, created_at, active, notes_count, following_count, followers_count)
+                VALUES (?, ?, ?, ?, '123', false, false, false, false, 0, ?, true, 0, 0, ?)
+                """, id, username + "@notehub.com.br", username, username, Timestamp.from(Instant.now()), followersCount);
+        return id;
+    }
+
+    private List<UUID> insertMutualFollowers(UUID actorId, String prefix, int count) {
+        List<UUID> followers = new ArrayList<>(count);
+        List<Object[]> users = new ArrayList<>(count);
+        List<Object[]> follows = new ArrayList<>(count * 2);
+        Timestamp now = Timestamp.from(Instant.now());
+        for (int i = 0; i < count; i++) {
+            UUID id = UUID.randomUUID();
+            followers.add(id);
+            users.add(new Object[]{id, prefix + i + "@notehub.com.br", prefix + i, prefix + i, now});
+            follows.add(new Object[]{id, actorId, now});
+            follows.add(new Object[]{actorId, id, now});
+        }
+        jdbc.batchUpdate("""
+                INSERT INTO users (id, email, username, display_name, password, profile_private, dev, sponsor, blocked, score, created_at, active, notes_count, following_count, followers_count)
+                VALUES (?, ?, ?, ?, '123', false, false, false, false, 0, ?, true, 0, 0, 0)
+                """, users);
+        jdbc.batchUpdate("INSERT INTO follows (follower_id, following_id, created_at) VALUES (?, ?, ?)", follows);
+        return followers;
+    }
+
+    private UUID insertNote(UUID userId) {
+        UUID id = UUID.randomUUID();
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbc.update("""
+                INSERT INTO notes (id, user_id, created_at, modified_at, title, description, markdown, modified, closed, hidden, comments_count, flames_count)
+                VALUES (?, ?, ?, ?, 'benchmark', null, '# benchmark', false, false, false, 0, 0)
+                """, id, userId, now, now);
+        return id;
+    }
+
+    private double millisSince(long start) {
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+
+    private double averageReadMillis(UUID recipientId) {
+        IntStream.range(0, 5).forEach(i -> service.getFeed(FIRST_PAGE, recipientId, null));
+        long start = System.nanoTime();
+        IntStream.range(0, READS).forEach(i -> service.getFeed(FIRST_PAGE, recipientId, null));
+        return millisSince(start) / READS;
+    }
+
+    private void setPullThreshold(int threshold) {
+        Object target = AopTestUtils.getTargetObject(service);
+        ReflectionTestUtils.setField(target, "pullThreshold", threshold);
+    }
+
+    @Test
+    void measureWriteCostAndReadLatencyByFollowerCount() {
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%10s | %12s | %10s | %12s | %12s", "followers", "push write", "push rows", "pull write", "hybrid read"));
+        for (int followers : new int[]{100, 10_000, 100_000}) {
+            String prefix = "b" + followers + "_";
+            UUID actorId = insertUser(prefix + "actor", followers);
+            List<UUID> recipients = insertMutualFollowers(actorId, prefix, followers);
+            UUID recipientId = recipients.get(0);
+
+            setPullThreshold(Integer.MAX_VALUE);
+            UUID pushedNote = insertNote(actorId);
+            long start = System.nanoTime();
+            service.onNoteCreated(pushedNote);
+            double pushWrite = millisSince(start);
+            Integer pushedRows = jdbc.queryForObject("SELECT COUNT(*) FROM feed WHERE note_id = ?", Integer.class, pushedNote);
+
+            setPullThreshold(0);
+            UUID pulledNote = insertNote(actorId);
+            start = System.nanoTime();
+            service.onNoteCreated(pulledNote);
+            double pullWrite = millisSince(start);
+
+            double hybridRead = averageReadMillis(recipientId);
+
+            assertThat(pushedRows).isEqualTo(followers);
+            assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM feed WHERE note_id = ?", Integer.class, pulledNote)).isZero();
+            assertThat(service.getFeed(FIRST_PAGE, recipientId, null).content()).hasSize(2);
+
+            report.add(String.format("%10d | %10.1fms | %10d | %10.1fms | %10.2fms", followers, pushWrite, pushedRows, pullWrite, hybridRead));
+        }
+        setPullThreshold(10_000);
+        actorEventRepository.deleteAll();
+        logger.info("{}{}", System.lineSeparator(), String.join(System.lineSeparator(), report));
+    }
+
+}
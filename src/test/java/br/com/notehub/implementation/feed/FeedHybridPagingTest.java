@@ -0,0 +1,74 @@
+package br.com.notehub.implementation.feed;
+
+import br.com.notehub.IntegrationTest;
+import br.com.notehub.application.dto.response.feed.FeedEventRES;
+import br.com.notehub.application.dto.response.page.CursorRES;
+import br.com.notehub.application.dto.response.page.PageRES;
+import br.com.notehub.domain.feed.ActorEvent;
+import br.com.notehub.domain.feed.ActorEventRepository;
+import br.com.notehub.domain.feed.FeedEvent;
+import br.com.notehub.domain.feed.FeedService;
+import br.com.notehub.domain.follow.Follow;
+import br.com.notehub.domain.follow.FollowRepository;
+import br.com.notehub.domain.user.User;
+import br.com.notehub.infra.exception.CustomExceptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FeedHybridPagingTest extends IntegrationTest {
+
+    @Autowired
+    private FeedService service;
+
+    @Autowired
+    private ActorEventRepository actorEventRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    private User recipient;
+
+    @BeforeEach
+    void setup() {
+        recipient = createUser("recipient");
+        User actor = createUser("actor");
+        followRepository.save(new Follow(recipient, actor));
+        followRepository.save(new Follow(actor, recipient));
+        for (int i = 0; i < 3; i++) {
+            actorEventRepository.save(new ActorEvent(FeedEvent.USER_FOLLOWED, actor, createUser("related"), null, null, null));
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        actorEventRepository.deleteAll();
+    }
+
+    @Test
+    void shouldServeOnlyFirstOffsetPageForHybridRecipients() {
+        PageRES<FeedEventRES> first = service.getFeed(PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt")), recipient.getId(), null);
+
+        assertThat(first.content()).hasSize(2);
+        assertThat(first.last()).isFalse();
+        assertThatThrownBy(() -> service.getFeed(PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "createdAt")), recipient.getId(), null))
+                .isInstanceOf(CustomExceptions.FeedPageNotSupportedException.class);
+    }
+
+    @Test
+    void shouldReachFollowingPagesThroughCursor() {
+        CursorRES<FeedEventRES> first = service.getFeedByCursor(null, 2, recipient.getId(), null);
+        CursorRES<FeedEventRES> second = service.getFeedByCursor(first.next(), 2, recipient.getId(), null);
+
+        assertThat(first.content()).hasSize(2);
+        assertThat(second.content()).hasSize(1);
+        assertThat(second.next()).isNull();
+    }
+
+}
\ No newline at end of file
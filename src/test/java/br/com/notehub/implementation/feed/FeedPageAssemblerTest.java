@@ -0,0 +1,80 @@
+package br.com.notehub.implementation.feed;
+
+import br.com.notehub.application.dto.response.feed.FeedEventRES;
+import br.com.notehub.application.implementation.feed.FeedPageAssembler;
+import br.com.notehub.domain.comment.CommentRepository;
+import br.com.notehub.domain.feed.Feed;
+import br.com.notehub.domain.feed.FeedEvent;
+import br.com.notehub.domain.flame.Flame;
+import br.com.notehub.domain.flame.FlameRepository;
+import br.com.notehub.domain.note.Note;
+import br.com.notehub.domain.note.NoteRepository;
+import br.com.notehub.domain.user.User;
+import br.com.notehub.domain.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FeedPageAssemblerTest {
+
+    @InjectMocks
+    private FeedPageAssembler assembler;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NoteRepository noteRepository;
+
+    @Mock
+    private FlameRepository flameRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    private User user(String username) {
+        User user = User.signup(username + "@notehub.com.br", username, username.toUpperCase(), "123");
+        user.setId(UUID.randomUUID());
+        return user;
+    }
+
+    private Note note(User author) {
+        Note note = new Note(author, "Nota", null, null, false, false, new ArrayList<>());
+        note.setId(UUID.randomUUID());
+        return note;
+    }
+
+    @Test
+    void shouldSkipEventsWhoseEntitiesWereDeletedBeforeLoading() {
+        User recipient = user("recipient");
+        User actor = user("actor");
+        Note kept = note(actor);
+        Note deleted = note(actor);
+        Flame flame = new Flame(actor, deleted);
+        flame.setId(UUID.randomUUID());
+        when(flameRepository.findAllById(any())).thenReturn(List.of());
+        when(noteRepository.findAllWithTagsByIdIn(any())).thenReturn(List.of(kept));
+        when(userRepository.findAllById(any())).thenReturn(List.of(recipient, actor));
+
+        List<FeedEventRES> events = assembler.assemble(List.of(
+                new Feed(FeedEvent.NOTE_CREATED, recipient, actor, null, kept, null, null),
+                new Feed(FeedEvent.NOTE_CREATED, recipient, actor, null, deleted, null, null),
+                new Feed(FeedEvent.NOTE_FLAMED, recipient, actor, null, null, flame, null)
+        ));
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).note().id()).isEqualTo(kept.getId());
+    }
+
+}
\ No newline at end of file
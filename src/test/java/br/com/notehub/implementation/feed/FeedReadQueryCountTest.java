@@ -0,0 +1,124 @@
+package br.com.notehub.implementation.feed;
+
+import br.com.notehub.IntegrationTest;
+import br.com.notehub.application.dto.response.feed.FeedEventRES;
+import br.com.notehub.application.dto.response.page.PageRES;
+import br.com.notehub.domain.comment.Comment;
+import br.com.notehub.domain.comment.CommentRepository;
+import br.com.notehub.domain.feed.Feed;
+import br.com.notehub.domain.feed.FeedEvent;
+import br.com.notehub.domain.feed.FeedRepository;
+import br.com.notehub.domain.feed.FeedService;
+import br.com.notehub.domain.flame.Flame;
+import br.com.notehub.domain.flame.FlameRepository;
+import br.com.notehub.domain.note.Note;
+import br.com.notehub.domain.note.NoteRepository;
+import br.com.notehub.domain.tag.Tag;
+import br.com.notehub.domain.user.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FeedReadQueryCountTest extends IntegrationTest {
+
+    private static final long MAX_QUERIES_PER_PAGE = 8;
+
+    @Autowired
+    private FeedService service;
+
+    @Autowired
+    private NoteRepository noteRepository;
+
+    @Autowired
+    private FlameRepository flameRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private User recipient;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate.executeWithoutResult(status -> seed());
+    }
+
+    private void seed() {
+        String suffix = String.valueOf(System.nanoTime());
+        recipient = createUser("recipient");
+        List<User> actors = List.of(createUser("actor1"), createUser("actor2"), createUser("actor3"));
+        List<Note> notes = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            List<Tag> tags = List.of(new Tag("tag" + i + "a" + suffix), new Tag("tag" + i + "b" + suffix));
+            notes.add(noteRepository.save(new Note(actors.get(i % 3), "note" + i, null, "# note", false, false, new ArrayList<>(tags))));
+        }
+        Instant now = Instant.now();
+        for (int i = 0; i < 20; i++) {
+            User actor = actors.get((i / 4) % 3);
+            Note note = notes.get((i / 4) % 4);
+            Feed feed = switch (i % 4) {
+                case 0 -> new Feed(FeedEvent.NOTE_CREATED, recipient, actor, null, note, null, null);
+                case 1 -> new Feed(FeedEvent.NOTE_FLAMED, recipient, actor, null, null, flameRepository.save(new Flame(actor, note)), null);
+                case 2 -> new Feed(FeedEvent.NOTE_COMMENTED, recipient, actor, null, null, null, commentRepository.save(new Comment(actor, note, "comment" + i)));
+                default -> new Feed(FeedEvent.USER_FOLLOWED, recipient, actor, actors.get((i + 1) % 3), null, null, null);
+            };
+            feed.setCreatedAt(now.minusSeconds(i));
+            feedRepository.save(feed);
+        }
+    }
+
+    private long countQueries(int size) {
+        statistics.clear();
+        PageRES<FeedEventRES> page = service.getFeed(PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt")), recipient.getId(), null);
+        assertThat(page.content()).hasSize(size);
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    void shouldLoadFeedPageWithConstantNumberOfQueries() {
+        long small = countQueries(4);
+        long full = countQueries(20);
+
+        assertThat(full).isEqualTo(small);
+        assertThat(full).isLessThanOrEqualTo(MAX_QUERIES_PER_PAGE);
+    }
+
+    @Test
+    void shouldAssembleEveryReferencedEntity() {
+        PageRES<FeedEventRES> page = service.getFeed(PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")), recipient.getId(), null);
+
+        assertThat(page.content()).allSatisfy(event -> {
+            assertThat(event.recipient().username()).isEqualTo(recipient.getUsername());
+            assertThat(event.actor()).isNotNull();
+            switch (event.event()) {
+                case NOTE_CREATED -> assertThat(event.note().tags()).hasSize(2);
+                case NOTE_FLAMED -> assertThat(event.flame().note().user()).isNotNull();
+                case NOTE_COMMENTED -> assertThat(event.comment().user()).isNotNull();
+                case USER_FOLLOWED -> assertThat(event.related()).isNotNull();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,93 @@
+package br.com.notehub.implementation.follow;
+
+import br.com.notehub.IntegrationTest;
+import br.com.notehub.application.counter.Counter;
+import br.com.notehub.application.counter.CounterReconciler;
+import br.com.notehub.application.implementation.follow.FollowCountAdjuster;
+import br.com.notehub.domain.follow.FollowCountAdjustmentRepository;
+import br.com.notehub.domain.follow.FollowService;
+import br.com.notehub.domain.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FollowCountAdjusterTest extends IntegrationTest {
+
+    private static final int FOLLOWERS = 25;
+
+    @Autowired
+    private FollowService followService;
+
+    @Autowired
+    private FollowCountAdjuster adjuster;
+
+    @Autowired
+    private FollowCountAdjustmentRepository adjustments;
+
+    @Autowired
+    private CounterReconciler reconciler;
+
+    @Autowired
+    private Counter counter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User deleted;
+    private User followed;
+    private List<User> followers;
+
+    private void follow(User follower, User following) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO follows (follower_id, following_id, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)", follower.getId(), following.getId());
+            counter.updateFollowersAndFollowingCount(follower, following, true);
+        });
+    }
+
+    private User reload(User user) {
+        return userRepository.findById(user.getId()).orElseThrow();
+    }
+
+    @BeforeEach
+    void setup() {
+        deleted = createUser("deleted");
+        followed = createUser("followed");
+        followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            User follower = createUser("follower");
+            follow(follower, deleted);
+            followers.add(follower);
+        }
+        follow(deleted, followed);
+    }
+
+    @Test
+    void shouldDecrementCountersInChunksAfterDeletion() {
+        transactionTemplate.executeWithoutResult(status -> {
+            followService.scheduleCountAdjustments(deleted.getId());
+            jdbcTemplate.update("DELETE FROM users_subscriptions WHERE user_id = ?", deleted.getId());
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", deleted.getId());
+        });
+        assertThat(adjustments.count()).isEqualTo(FOLLOWERS + 1);
+        reconciler.run();
+        assertThat(reload(followed).getFollowersCount()).isEqualTo(1);
+        assertThat(reload(followers.get(0)).getFollowingCount()).isEqualTo(1);
+
+        adjuster.run();
+
+        assertThat(adjustments.count()).isZero();
+        assertThat(reload(followed).getFollowersCount()).isZero();
+        assertThat(followers).extracting(this::reload).extracting(User::getFollowingCount).containsOnly(0);
+    }
+
+}
\ No newline at end of file
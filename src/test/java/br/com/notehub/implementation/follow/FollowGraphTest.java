@@ -0,0 +1,181 @@
+package br.com.notehub.implementation.follow;
+
+import br.com.notehub.application.implementation.follow.FollowGraph;
+import br.com.notehub.domain.follow.FollowRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FollowGraphTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private FollowRepository repository;
+
+    private FollowGraph graph;
+    private SimpleMeterRegistry registry;
+
+    private final List<Object[]> follows = new ArrayList<>();
+    private final List<Object[]> changes = new ArrayList<>();
+    private final Set<Long> recent = new HashSet<>();
+    private Runnable duringLoad = () -> {};
+
+    private final UUID ana = UUID.randomUUID();
+    private final UUID bia = UUID.randomUUID();
+    private final UUID caio = UUID.randomUUID();
+
+    @BeforeEach
+    void setup() throws Exception {
+        registry = new SimpleMeterRegistry();
+        graph = new FollowGraph(jdbcTemplate, repository, registry);
+        lenient().when(jdbcTemplate.queryForObject(anyString(), eq(Long.class)))
+                .thenAnswer(invocation -> (long) changes.size());
+        lenient().doAnswer(invocation -> {
+            feed(invocation.getArgument(1), follows);
+            duringLoad.run();
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT follower_id"), any(RowCallbackHandler.class));
+        lenient().doAnswer(invocation -> {
+            long after = invocation.getArgument(2);
+            feed(invocation.getArgument(1), changes.stream()
+                    .filter(row -> (long) row[0] > after || recent.contains((long) row[0]))
+                    .toList());
+            return null;
+        }).when(jdbcTemplate).query(contains("follow_graph_changes"), any(RowCallbackHandler.class), any(), any());
+    }
+
+    private void feed(RowCallbackHandler handler, List<Object[]> rows) throws SQLException {
+        Object[][] current = new Object[1][];
+        ResultSet rs = mock(ResultSet.class);
+        lenient().when(rs.getObject(anyInt(), eq(UUID.class))).thenAnswer(invocation -> current[0][(int) invocation.getArgument(0) - 1]);
+        lenient().when(rs.getLong(1)).thenAnswer(invocation -> current[0][0]);
+        lenient().when(rs.getBoolean(4)).thenAnswer(invocation -> current[0][3]);
+        for (Object[] row : rows) {
+            current[0] = row;
+            handler.processRow(rs);
+        }
+    }
+
+    private void follow(UUID follower, UUID following) {
+        follows.add(new Object[]{follower, following});
+    }
+
+    private long log(UUID follower, UUID following, boolean linked) {
+        long id = changes.size() + 1;
+        changes.add(new Object[]{id, follower, following, linked});
+        return id;
+    }
+
+    @Test
+    void shouldFallBackToDatabaseUntilLoaded() {
+        when(repository.existsMutualFollow(ana, bia)).thenReturn(true);
+
+        assertThat(graph.isMutual(ana, bia)).isTrue();
+    }
+
+    @Test
+    void shouldAnswerBothDirectionsFromMemory() {
+        follow(ana, bia);
+        follow(bia, ana);
+        follow(ana, caio);
+        graph.reload();
+
+        assertThat(graph.isMutual(ana, bia)).isTrue();
+        assertThat(graph.isMutual(bia, ana)).isTrue();
+        assertThat(graph.isMutual(ana, caio)).isFalse();
+        assertThat(graph.isMutual(caio, ana)).isFalse();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldApplyLoggedChangesOnSync() {
+        follow(ana, bia);
+        follow(bia, ana);
+        follow(ana, caio);
+        graph.reload();
+
+        log(caio, ana, true);
+        graph.sync();
+        graph.sync();
+        assertThat(graph.isMutual(caio, ana)).isTrue();
+        assertThat(registry.get("follows.graph.edges").gauge().value()).isEqualTo(4);
+
+        log(bia, ana, false);
+        graph.sync();
+        assertThat(graph.isMutual(ana, bia)).isFalse();
+
+        log(ana, null, false);
+        graph.sync();
+        assertThat(graph.isMutual(caio, ana)).isFalse();
+        assertThat(registry.get("follows.graph.edges").gauge().value()).isZero();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldReplayChangesLoggedDuringReload() {
+        follow(ana, bia);
+        duringLoad = () -> log(bia, ana, true);
+        graph.reload();
+
+        assertThat(graph.isMutual(ana, bia)).isTrue();
+    }
+
+    @Test
+    void shouldReapplyLateCommitsWithinWindow() {
+        graph.reload();
+        changes.add(new Object[]{2L, ana, bia, true});
+        graph.sync();
+
+        changes.add(new Object[]{1L, bia, ana, true});
+        recent.add(1L);
+        graph.sync();
+
+        assertThat(graph.isMutual(ana, bia)).isTrue();
+    }
+
+    @Test
+    void shouldRepairDriftOnReload() {
+        graph.reload();
+        follow(ana, bia);
+        follow(bia, ana);
+        assertThat(graph.isMutual(ana, bia)).isFalse();
+
+        graph.reload();
+
+        assertThat(graph.isMutual(ana, bia)).isTrue();
+    }
+
+    @Test
+    void shouldGrowAndReportMemory() {
+        graph.reload();
+        List<UUID> users = IntStream.range(0, 2000).mapToObj(i -> UUID.randomUUID()).toList();
+        users.forEach(user -> {
+            log(user, ana, true);
+            log(ana, user, true);
+        });
+        graph.sync();
+
+        assertThat(users).allMatch(user -> graph.isMutual(user, ana));
+        assertThat(graph.isMutual(users.get(0), users.get(1))).isFalse();
+        assertThat(registry.get("follows.graph.users").gauge().value()).isEqualTo(2001);
+        assertThat(graph.memoryBytes()).isGreaterThan(2000L * 2 * 4);
+    }
+
+}
\ No newline at end of file
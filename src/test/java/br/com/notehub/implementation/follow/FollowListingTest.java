@@ -0,0 +1,90 @@
+package br.com.notehub.implementation.follow;
+
+import br.com.notehub.IntegrationTest;
+import br.com.notehub.application.dto.response.page.CursorRES;
+import br.com.notehub.application.dto.response.user.DetailUserRES;
+import br.com.notehub.domain.follow.FollowService;
+import br.com.notehub.domain.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FollowListingTest extends IntegrationTest {
+
+    private static final int FOLLOWERS = 7;
+
+    @Autowired
+    private FollowService service;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+    private List<User> followers;
+
+    private void follow(User follower, User following, Instant at) {
+        jdbcTemplate.update("INSERT INTO follows (follower_id, following_id, created_at) VALUES (?, ?, ?)", follower.getId(), following.getId(), Timestamp.from(at));
+    }
+
+    @BeforeEach
+    void setup() {
+        owner = createUser("listed");
+        followers = new ArrayList<>();
+        Instant base = Instant.parse("2026-01-01T00:00:00Z");
+        for (int i = 0; i < FOLLOWERS; i++) {
+            User follower = createUser(i % 2 == 0 ? "even" : "odd");
+            followers.add(follower);
+            // Os dois últimos seguidores empatam no horário e são desempatados pelo id.
+            follow(follower, owner, base.plusSeconds(Math.min(i, FOLLOWERS - 2)));
+        }
+        follow(owner, followers.get(0), base);
+    }
+
+    @Test
+    void shouldPageFollowersThroughJoin() {
+        Page<User> page = service.getUserFollowers(PageRequest.of(0, 3, Sort.by("username")), null, null, owner.getUsername());
+        Page<User> filtered = service.getUserFollowers(PageRequest.of(0, 10), "EVEN", null, owner.getUsername());
+        Page<User> following = service.getUserFollowing(PageRequest.of(0, 10), null, null, owner.getUsername());
+
+        assertThat(page.getTotalElements()).isEqualTo(FOLLOWERS);
+        assertThat(page.getContent()).hasSize(3).isSortedAccordingTo((a, b) -> a.getUsername().compareTo(b.getUsername()));
+        assertThat(filtered.getTotalElements()).isEqualTo(4);
+        assertThat(filtered.getContent()).allMatch(user -> user.getUsername().startsWith("even"));
+        assertThat(following.getContent()).extracting(User::getId).containsExactly(followers.get(0).getId());
+    }
+
+    @Test
+    void shouldScrollFollowersNewestFirst() {
+        List<DetailUserRES> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorRES<DetailUserRES> page = service.scrollUserFollowers(cursor, 3, null, null, owner.getUsername());
+            seen.addAll(page.content());
+            cursor = page.next();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).extracting(DetailUserRES::username).doesNotHaveDuplicates().hasSize(FOLLOWERS);
+        assertThat(seen.get(FOLLOWERS - 1).username()).isEqualTo(followers.get(0).getUsername());
+        assertThat(seen.subList(0, 2)).extracting(DetailUserRES::username)
+                .containsExactlyInAnyOrder(followers.get(FOLLOWERS - 2).getUsername(), followers.get(FOLLOWERS - 1).getUsername());
+
+        CursorRES<DetailUserRES> odd = service.scrollUserFollowers(null, 10, "odd", null, owner.getUsername());
+        assertThat(odd.content()).hasSize(3);
+        assertThat(odd.next()).isNull();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package br.com.notehub.implementation.note;
+
+import br.com.notehub.IntegrationTest;
+import br.com.notehub.application.dto.response.note.DetailNoteRES;
+import br.com.notehub.domain.note.Note;
+import br.com.notehub.domain.note.NoteRepository;
+import br.com.notehub.domain.note.NoteService;
+import br.com.notehub.domain.user.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class NoteDetailCacheTest extends IntegrationTest {
+
+    @Autowired
+    private NoteService service;
+
+    @Autowired
+    private NoteRepository noteRepository;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User author;
+    private Note note;
+
+    @BeforeEach
+    void setup() {
+        author = createUser("cache");
+        note = noteRepository.save(new Note(author, "Original", "Descrição", "# Markdown", false, false, new ArrayList<>()));
+    }
+
+    private double hits() {
+        return registry.get("cache.gets").tag("cache", "notes.detail").tag("result", "hit").functionCounter().count();
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCacheAndEvictOnChange() {
+        double before = hits();
+        assertThat(service.getNote(null, note.getId()).title()).isEqualTo("Original");
+        assertThat(service.getNote(null, note.getId()).user().username()).isEqualTo(author.getUsername());
+        assertThat(hits()).isEqualTo(before + 1);
+
+        service.changeTitle(author.getId(), note.getId(), "Alterado");
+
+        assertThat(service.getNote(null, note.getId()).title()).isEqualTo("Alterado");
+    }
+
+    @Test
+    void shouldServeLiveCountersWithoutEvictingContent() {
+        service.getNote(null, note.getId());
+        jdbcTemplate.update("UPDATE notes SET flames_count = flames_count + 3, comments_count = comments_count + 2 WHERE id = ?", note.getId());
+        double before = hits();
+
+        DetailNoteRES detail = service.getNote(null, note.getId());
+
+        assertThat(hits()).isEqualTo(before + 1);
+        assertThat(detail.flames_count()).isEqualTo(3);
+        assertThat(detail.comments_count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCheckAccessOnEveryRead() {
+        service.getNote(null, note.getId());
+        service.changeHidden(author.getId(), note.getId());
+
+        assertThatThrownBy(() -> service.getNote(null, note.getId())).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> service.getNote(null, note.getId())).isInstanceOf(AccessDeniedException.class);
+        assertThat(service.getNote(author.getId(), note.getId()).hidden()).isTrue();
+    }
+
+}
\ No newline at end of file
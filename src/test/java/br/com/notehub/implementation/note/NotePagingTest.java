@@ -0,0 +1,106 @@
+package br.com.notehub.implementation.note;
+
+import br.com.notehub.IntegrationTest;
+import br.com.notehub.application.dto.response.note.LowDetailNoteRES;
+import br.com.notehub.application.dto.response.page.PageRES;
+import br.com.notehub.domain.flame.Flame;
+import br.com.notehub.domain.flame.FlameRepository;
+import br.com.notehub.domain.note.Note;
+import br.com.notehub.domain.note.NoteRepository;
+import br.com.notehub.domain.note.NoteService;
+import br.com.notehub.domain.tag.Tag;
+import br.com.notehub.domain.user.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NotePagingTest extends IntegrationTest {
+
+    @Autowired
+    private NoteService service;
+
+    @Autowired
+    private NoteRepository noteRepository;
+
+    @Autowired
+    private FlameRepository flameRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private User author;
+    private List<Note> notes;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate.executeWithoutResult(status -> seed());
+    }
+
+    private void seed() {
+        String suffix = String.valueOf(System.nanoTime());
+        author = createUser("author");
+        notes = new ArrayList<>();
+        Instant now = Instant.now();
+        for (int i = 0; i < 12; i++) {
+            List<Tag> tags = List.of(new Tag("paging" + i + "a" + suffix), new Tag("paging" + i + "b" + suffix), new Tag("paging" + i + "c" + suffix));
+            Note note = new Note(author, "paging note " + i, null, "# note", false, false, new ArrayList<>(tags));
+            note.setCreatedAt(now.minusSeconds(i));
+            notes.add(noteRepository.save(note));
+            flameRepository.save(new Flame(author, note));
+        }
+    }
+
+    @Test
+    void shouldPageNotesInDatabaseAndKeepOrder() {
+        PageRequest pageable = PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        statistics.clear();
+        PageRES<LowDetailNoteRES> page = service.getAllUserNotesById(pageable, author.getId());
+
+        assertThat(page.content()).extracting(LowDetailNoteRES::id)
+                .containsExactlyElementsOf(notes.subList(5, 10).stream().map(Note::getId).toList());
+        assertThat(page.content()).allSatisfy(note -> assertThat(note.tags()).hasSize(3));
+        assertThat(page.totalElements()).isEqualTo(12L);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void shouldPageFlamesInDatabaseAndKeepOrder() {
+        PageRequest pageable = PageRequest.of(0, 4, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        Page<Flame> page = flameRepository.getUserFlames(pageable, author.getUsername(), null);
+
+        assertThat(page.getContent()).hasSize(4);
+        assertThat(page.getTotalElements()).isEqualTo(12);
+        assertThat(page.getContent()).extracting(flame -> flame.getUser().getId()).containsOnly(author.getId());
+    }
+
+    @Test
+    void shouldNotLoadMarkdownUntilAccessed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Note note = noteRepository.findAllWithTagsByIdIn(List.of(notes.get(0).getId())).get(0);
+            assertThat(Hibernate.isPropertyInitialized(note, "markdown")).isFalse();
+            assertThat(note.getMarkdown()).isEqualTo("# note");
+        });
+    }
+
+}
@@ -0,0 +1,74 @@
+package br.com.notehub.implementation.note;
+
+import br.com.notehub.IntegrationTest;
+import br.com.notehub.application.dto.response.note.NoteSnippetRES;
+import br.com.notehub.application.dto.response.page.PageRES;
+import br.com.notehub.domain.note.Note;
+import br.com.notehub.domain.note.NoteExcerpt;
+import br.com.notehub.domain.note.NoteRepository;
+import br.com.notehub.domain.note.NoteService;
+import br.com.notehub.domain.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NoteSnippetTest extends IntegrationTest {
+
+    @Autowired
+    private NoteService service;
+
+    @Autowired
+    private NoteRepository noteRepository;
+
+    private String term;
+    private Note note;
+
+    @BeforeEach
+    void setup() {
+        term = "snippet" + System.nanoTime();
+        User author = createUser("snippet");
+        String description = "Uma introdução longa ".repeat(5) + "sobre " + term.toUpperCase() + " e mais texto";
+        String markdown = "x".repeat(1000) + " " + term + " " + "y".repeat(1000);
+        note = noteRepository.save(new Note(author, "Notas", description, markdown, false, false, new ArrayList<>()));
+    }
+
+    @Test
+    void shouldReturnBoundedSnippetWithHighlightOffsets() {
+        PageRES<NoteSnippetRES> page = service.findPublicNoteSnippets(PageRequest.of(0, 10), term);
+
+        assertThat(page.content()).hasSize(1);
+        NoteSnippetRES snippet = page.content().get(0);
+        assertThat(snippet.id()).isEqualTo(note.getId());
+        assertThat(snippet.field()).isEqualTo("description");
+        assertThat(snippet.snippet().length()).isLessThanOrEqualTo(240);
+        assertThat(snippet.highlights()).hasSize(1);
+        NoteSnippetRES.Highlight highlight = snippet.highlights().get(0);
+        assertThat(snippet.snippet().substring(highlight.start(), highlight.end())).isEqualTo(term.toUpperCase());
+    }
+
+    @Test
+    void shouldCutMarkdownAroundMatchInDatabase() {
+        List<NoteExcerpt> excerpts = noteRepository.findExcerptsByIdIn(List.of(note.getId()), term, term, term, 80, 240);
+
+        assertThat(excerpts).hasSize(1);
+        assertThat(excerpts.get(0).markdown()).hasSize(240).contains(term);
+    }
+
+    @Test
+    void shouldCutMarkdownAroundEarliestAccentFoldedMatch() {
+        String markdown = "x".repeat(1000) + " Atenção " + "y".repeat(1000) + " " + term + "longo " + "z".repeat(1000);
+        Note accented = noteRepository.save(new Note(note.getUser(), "Notas", "Descrição", markdown, false, false, new ArrayList<>()));
+
+        List<NoteExcerpt> excerpts = noteRepository.findExcerptsByIdIn(List.of(accented.getId()), term + "longo", "atencao", "atencao", 80, 240);
+
+        assertThat(excerpts).hasSize(1);
+        assertThat(excerpts.get(0).markdown()).hasSize(240).contains("Atenção");
+    }
+
+}
\ No newline at end of file
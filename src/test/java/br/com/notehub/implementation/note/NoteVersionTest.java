@@ -0,0 +1,92 @@
+package br.com.notehub.implementation.note;
+
+import br.com.notehub.IntegrationTest;
+import br.com.notehub.domain.note.Note;
+import br.com.notehub.domain.note.NoteRepository;
+import br.com.notehub.domain.note.NoteService;
+import br.com.notehub.domain.note.NoteVersion;
+import br.com.notehub.domain.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class NoteVersionTest extends IntegrationTest {
+
+    @Autowired
+    private NoteService service;
+
+    @Autowired
+    private NoteRepository noteRepository;
+
+    private User author;
+    private Note note;
+
+    @BeforeEach
+    void setup() {
+        author = createUser("version");
+        note = noteRepository.save(new Note(author, "Original", "Descrição", "# Markdown", false, false, new ArrayList<>()));
+    }
+
+    @Test
+    void shouldKeepEtagUntilNoteOrAuthorChanges() throws InterruptedException {
+        NoteVersion first = service.getNoteVersion(null, note.getId());
+        assertThat(service.getNoteVersion(null, note.getId()).etag()).isEqualTo(first.etag());
+
+        Thread.sleep(5);
+        service.changeTitle(author.getId(), note.getId(), "Alterado");
+        NoteVersion edited = service.getNoteVersion(null, note.getId());
+        assertThat(edited.etag()).isNotEqualTo(first.etag());
+        assertThat(edited.lastModified()).isAfter(first.lastModified());
+
+        Thread.sleep(5);
+        User changed = userRepository.findById(author.getId()).orElseThrow();
+        changed.setMessage("Nova mensagem");
+        userRepository.save(changed);
+        assertThat(service.getNoteVersion(null, note.getId()).etag()).isNotEqualTo(edited.etag());
+    }
+
+    @Test
+    void shouldChangeEtagForWritesWithinTheSameMillisecond() {
+        UUID id = UUID.randomUUID();
+        Instant at = Instant.parse("2026-10-17T12:00:00.123456Z");
+        NoteVersion first = new NoteVersion(id, null, false, null, at, null);
+        NoteVersion second = new NoteVersion(id, null, false, null, at.plusNanos(1000), null);
+        NoteVersion other = new NoteVersion(UUID.randomUUID(), null, false, null, at, null);
+
+        assertThat(second.etag()).isNotEqualTo(first.etag());
+        assertThat(other.etag()).isNotEqualTo(first.etag());
+        assertThat(new NoteVersion(id, null, false, null, at, null).etag()).isEqualTo(first.etag());
+    }
+
+    @Test
+    void shouldSkipDetailWhenClientVersionMatches() {
+        String etag = service.getNoteVersion(null, note.getId()).etag();
+
+        assertThat(service.getNote(null, note.getId(), version -> version.etag().equals(etag))).isNull();
+        assertThat(service.getNote(null, note.getId(), version -> false).title()).isEqualTo("Original");
+    }
+
+    @Test
+    void shouldCheckAccessBeforeEvaluatingVersion() {
+        service.changeHidden(author.getId(), note.getId());
+
+        assertThatThrownBy(() -> service.getNote(null, note.getId(), version -> false)).isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void shouldCheckAccessBeforeReturningVersion() {
+        service.changeHidden(author.getId(), note.getId());
+
+        assertThatThrownBy(() -> service.getNoteVersion(null, note.getId())).isInstanceOf(AccessDeniedException.class);
+        assertThat(service.getNoteVersion(author.getId(), note.getId()).hidden()).isTrue();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+package br.com.notehub.implementation.search;
+
+import br.com.notehub.application.search.SearchHit;
+import br.com.notehub.application.search.SearchIndex;
+import br.com.notehub.domain.note.NoteDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchIndexTest {
+
+    @TempDir
+    private Path dir;
+
+    private SearchIndex index;
+    private final Pageable pageable = PageRequest.of(0, 10);
+    private final UUID author = UUID.randomUUID();
+    private final UUID secretive = UUID.randomUUID();
+
+    private NoteDocument note(UUID authorId, String username, boolean authorPrivate, String title, String description, boolean hidden) {
+        return new NoteDocument(UUID.randomUUID(), title, description, "# conteúdo", "java spring", authorId, username, authorPrivate, hidden, false);
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        index = new SearchIndex(true, dir.toString());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        index.close();
+    }
+
+    @Test
+    void shouldMatchPrefixFuzzyAndPhrase() {
+        NoteDocument note = note(author, "author", false, "Programação reativa", "Guia de streams com Reactor", false);
+        index.indexNote(note);
+        index.indexNote(note(author, "author", false, "Receitas", "Bolo de cenoura", false));
+        index.refresh();
+
+        assertThat(index.searchPublicNotes(pageable, "progra").getContent()).extracting(SearchHit::id).containsExactly(note.id());
+        assertThat(index.searchPublicNotes(pageable, "reatvia").getContent()).extracting(SearchHit::id).containsExactly(note.id());
+        assertThat(index.searchPublicNotes(pageable, "\"streams com reactor\"").getContent()).extracting(SearchHit::id).containsExactly(note.id());
+        assertThat(index.searchPublicNotes(pageable, "\"reactor com streams\"").getContent()).isEmpty();
+    }
+
+    @Test
+    void shouldApplyVisibilityRules() {
+        NoteDocument visible = note(author, "author", false, "Kotlin", null, false);
+        NoteDocument hidden = note(author, "author", false, "Kotlin oculto", null, true);
+        NoteDocument fromPrivate = note(secretive, "secretive", true, "Kotlin privado", null, false);
+        index.indexNote(visible);
+        index.indexNote(hidden);
+        index.indexNote(fromPrivate);
+        index.refresh();
+
+        assertThat(index.searchPublicNotes(pageable, "kotlin").getContent()).extracting(SearchHit::id).containsExactly(visible.id());
+        assertThat(index.searchPrivateNotes(pageable, author, "kotlin").getContent()).extracting(SearchHit::id).containsExactlyInAnyOrder(visible.id(), hidden.id());
+        assertThat(index.searchUserNotes(pageable, "author", "kotlin", "hidden").getContent()).extracting(SearchHit::id).containsExactly(hidden.id());
+        assertThat(index.searchUserNotes(pageable, "author", "kotlin", null).getContent()).extracting(SearchHit::id).containsExactly(visible.id());
+    }
+
+    @Test
+    void shouldReplaceAndDeleteDocuments() {
+        NoteDocument note = note(author, "author", false, "Rascunho", null, false);
+        index.indexNote(note);
+        index.indexNote(new NoteDocument(note.id(), "Publicado", null, null, null, author, "author", false, false, false));
+        index.refresh();
+
+        assertThat(index.searchPublicNotes(pageable, "rascunho").getTotalElements()).isZero();
+        assertThat(index.searchPublicNotes(pageable, "publicado").getTotalElements()).isOne();
+        assertThat(index.searchPrivateNotes(pageable, author, "").getContent()).extracting(SearchHit::id).containsExactly(note.id());
+
+        index.deleteNote(note.id());
+        index.refresh();
+
+        assertThat(index.searchPublicNotes(pageable, "publicado").getTotalElements()).isZero();
+    }
+
+    @Test
+    void shouldDeleteNotesByAuthorAndOnlyShowWritesAfterRefresh() {
+        NoteDocument note = note(author, "author", false, "Gradle", null, false);
+        NoteDocument other = note(secretive, "secretive", false, "Gradle avançado", null, false);
+        index.indexNote(note);
+        index.indexNote(other);
+
+        assertThat(index.searchPublicNotes(pageable, "gradle").getTotalElements()).isZero();
+
+        index.refresh();
+        index.deleteNotesByAuthor(author);
+
+        assertThat(index.searchPublicNotes(pageable, "gradle").getTotalElements()).isEqualTo(2);
+
+        index.refresh();
+
+        assertThat(index.searchPublicNotes(pageable, "gradle").getContent()).extracting(SearchHit::id).containsExactly(other.id());
+    }
+
+}
\ No newline at end of file
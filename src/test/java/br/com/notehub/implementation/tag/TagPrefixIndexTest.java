@@ -0,0 +1,45 @@
+package br.com.notehub.implementation.tag;
+
+import br.com.notehub.application.implementation.tag.TagPrefixIndex;
+import br.com.notehub.domain.tag.TagCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TagPrefixIndexTest {
+
+    private TagPrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TagPrefixIndex();
+        index.rebuild(
+                List.of("java", "javascript", "jakarta", "json", "rust"),
+                List.of(new TagCount("java", 5), new TagCount("javascript", 9), new TagCount("json", 1))
+        );
+    }
+
+    @Test
+    void shouldCompleteByPrefixRankedByUsage() {
+        assertThat(index.complete("JA", 10)).containsExactly("javascript", "java", "jakarta");
+        assertThat(index.complete("j", 2)).containsExactly("javascript", "java");
+        assertThat(index.complete("java", 10)).containsExactly("javascript", "java");
+        assertThat(index.complete("kotlin", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldFollowCreatedRemovedAndUsedTags() {
+        index.add(List.of("jackson", "java"));
+        index.remove(List.of("javascript"));
+        index.record(List.of(), List.of("jackson"));
+        index.record(List.of(), List.of("jackson"));
+        index.record(List.of("java"), List.of("jakarta"));
+
+        assertThat(index.size()).isEqualTo(5);
+        assertThat(index.complete("ja", 10)).containsExactly("java", "jackson", "jakarta");
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+package br.com.notehub.implementation.tag;
+
+import br.com.notehub.IntegrationTest;
+import br.com.notehub.application.dto.request.note.CreateNoteREQ;
+import br.com.notehub.application.dto.response.tag.TagStatsRES;
+import br.com.notehub.domain.note.Note;
+import br.com.notehub.domain.note.NoteRepository;
+import br.com.notehub.domain.note.NoteService;
+import br.com.notehub.domain.tag.Tag;
+import br.com.notehub.domain.tag.TagRepository;
+import br.com.notehub.domain.tag.TagService;
+import br.com.notehub.domain.user.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TagServiceTest extends IntegrationTest {
+
+    @Autowired
+    private TagService service;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private NoteRepository noteRepository;
+
+    @Autowired
+    private NoteService noteService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    private Statistics statistics;
+    private String suffix;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        suffix = String.valueOf(System.nanoTime());
+    }
+
+    private List<String> names(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> prefix + i + suffix).toList();
+    }
+
+    private long statementsFor(List<String> names) {
+        return transactionTemplate.execute(status -> {
+            statistics.clear();
+            List<Tag> tags = service.findOrCreate(names);
+            assertThat(tags).extracting(Tag::getName).containsExactlyElementsOf(names);
+            return statistics.getPrepareStatementCount();
+        });
+    }
+
+    @Test
+    void shouldResolveTagsWithConstantStatements() {
+        long single = statementsFor(names("single", 1));
+        long many = statementsFor(names("many", 12));
+        long known = statementsFor(names("many", 12));
+
+        assertThat(many).isEqualTo(single).isLessThanOrEqualTo(2);
+        assertThat(known).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCollectOrphanTagsAfterGracePeriod() throws InterruptedException {
+        List<String> names = names("orphan", 2);
+        transactionTemplate.executeWithoutResult(status -> {
+            User author = createUser("tags");
+            List<Tag> tags = service.findOrCreate(names);
+            noteRepository.save(new Note(author, "tags", null, null, false, false, new ArrayList<>(tags.subList(0, 1))));
+        });
+        double reclaimed = registry.counter("tags.gc.reclaimed").count();
+
+        service.collectOrphans();
+        assertThat(tagRepository.findAllByNameIn(names)).hasSize(2);
+
+        Thread.sleep(10);
+        service.collectOrphans();
+        assertThat(tagRepository.findAllByNameIn(names)).extracting(Tag::getName).containsExactly(names.get(0));
+        assertThat(registry.counter("tags.gc.reclaimed").count()).isGreaterThan(reclaimed);
+        assertThat(statementsFor(names)).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void shouldUnmarkOrphanTagWhenReused() {
+        List<String> names = names("reused", 1);
+        transactionTemplate.executeWithoutResult(status -> service.findOrCreate(names));
+        service.collectOrphans();
+        assertThat(tagRepository.findAllByNameIn(names)).extracting(Tag::getOrphanedAt).doesNotContainNull();
+
+        transactionTemplate.executeWithoutResult(status -> service.findOrCreate(names));
+
+        assertThat(tagRepository.findAllByNameIn(names)).extracting(Tag::getOrphanedAt).containsOnlyNulls();
+    }
+
+    @Test
+    void shouldDiscountTagsOfBulkDeletedNotes() {
+        List<String> names = names("bulk", 1);
+        User author = createUser("bulk");
+        noteService.create(author.getId(), new CreateNoteREQ("Primeira", null, null, false, false, names));
+        noteService.create(author.getId(), new CreateNoteREQ("Segunda", null, null, false, false, names));
+        assertThat(service.getTagsByPrefix(names.get(0), 1)).extracting(TagStatsRES::notes_count).containsExactly(2);
+
+        transactionTemplate.executeWithoutResult(status -> noteService.deleteAllUserNotes(author));
+
+        assertThat(service.getTagsByPrefix(names.get(0), 1)).isEmpty();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package br.com.notehub.implementation.tag;
+
+import br.com.notehub.application.dto.response.tag.TagStatsRES;
+import br.com.notehub.application.implementation.tag.TagStatistics;
+import br.com.notehub.domain.tag.TagCount;
+import br.com.notehub.domain.tag.TagRepository;
+import br.com.notehub.domain.tag.TagUsage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TagStatisticsTest {
+
+    @Mock
+    private TagRepository repository;
+
+    private TagStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new TagStatistics(repository, 24);
+    }
+
+    @Test
+    void shouldRankTagsByDecayedUsage() {
+        Instant now = Instant.now();
+        when(repository.countPublicNotes()).thenReturn(List.of(new TagCount("java", 2), new TagCount("javascript", 1), new TagCount("rust", 1)));
+        when(repository.findPublicUsagesSince(any())).thenReturn(List.of(
+                new TagUsage("java", now.minus(72, ChronoUnit.HOURS)),
+                new TagUsage("java", now.minus(48, ChronoUnit.HOURS)),
+                new TagUsage("javascript", now.minus(1, ChronoUnit.HOURS)),
+                new TagUsage("rust", now)
+        ));
+
+        statistics.rebuild();
+
+        assertThat(statistics.top(2)).extracting(TagStatsRES::name).containsExactly("rust", "javascript");
+        assertThat(statistics.byPrefix("JAVA", 10)).extracting(TagStatsRES::name).containsExactly("javascript", "java");
+        assertThat(statistics.byPrefix("java", 10)).extracting(TagStatsRES::notes_count).containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldApplyIncrementalChanges() {
+        Instant now = Instant.now();
+        statistics.record(List.of(), List.of("spring", "kotlin"), now);
+        statistics.record(List.of(), List.of("spring"), now);
+        statistics.record(List.of("spring", "kotlin"), List.of("spring"), now);
+
+        assertThat(statistics.top(10)).extracting(TagStatsRES::name).containsExactly("spring");
+        assertThat(statistics.top(10).get(0).notes_count()).isEqualTo(2);
+        assertThat(statistics.top(10).get(0).score()).isGreaterThan(1.9);
+
+        statistics.record(List.of("spring"), List.of(), now);
+        statistics.record(List.of("spring"), List.of(), now);
+
+        assertThat(statistics.top(10)).isEmpty();
+        assertThat(statistics.byPrefix("s", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldNotInflateScoreWhenNoteIsHiddenAndShownAgain() {
+        Instant publishedAt = Instant.now().minus(24, ChronoUnit.HOURS);
+        statistics.record(List.of(), List.of("go"), publishedAt);
+        double score = statistics.top(1).get(0).score();
+
+        for (int i = 0; i < 5; i++) {
+            statistics.record(List.of("go"), List.of(), publishedAt);
+            statistics.record(List.of(), List.of("go"), publishedAt);
+        }
+
+        assertThat(statistics.top(1).get(0).score()).isCloseTo(score, within(1e-9));
+        assertThat(statistics.top(1).get(0).notes_count()).isOne();
+    }
+
+    @Test
+    void shouldKeepChangesRecordedWhileRebuilding() {
+        Instant now = Instant.now();
+        when(repository.countPublicNotes()).thenAnswer(invocation -> {
+            statistics.record(List.of(), List.of("elixir"), now);
+            return List.of(new TagCount("erlang", 1));
+        });
+        when(repository.findPublicUsagesSince(any())).thenReturn(List.of(new TagUsage("erlang", now)));
+
+        statistics.rebuild();
+
+        assertThat(statistics.top(10)).extracting(TagStatsRES::name).containsExactlyInAnyOrder("elixir", "erlang");
+    }
+
+}
\ No newline at end of file
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -39,6 +40,9 @@ class UserCreationTest {
     @Mock
     private PasswordEncoder encoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private User user;
 
     private User createUser(String email, String username) {
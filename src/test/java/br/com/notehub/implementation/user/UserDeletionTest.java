@@ -17,7 +17,6 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -65,14 +64,13 @@ public class UserDeletionTest {
     void shouldDeleteUser_whenPasswordMatches() {
         mockFindById(user);
         mockMatches(true);
-        when(followService.getUserFollowersId(user.getId())).thenReturn(Set.of());
-        when(followService.getUserFollowingId(user.getId())).thenReturn(Set.of());
-
         service.delete(user.getId(), user.getPassword());
 
         verify(repository).findById(user.getId());
         verify(repository).delete(user);
         verify(noteService).deleteAllUserHiddenNotes(user);
+        verify(followService).scheduleCountAdjustments(user.getId());
+        verify(followService).recordUserRemoval(user.getId());
         verify(eventPublisher).publishEvent(any(UserDeletedEvent.class));
     }
 
@@ -88,6 +86,8 @@ public class UserDeletionTest {
         verify(repository).findById(user.getId());
         verify(repository, never()).delete(user);
         verify(noteService, never()).deleteAllUserHiddenNotes(user);
+        verify(followService, never()).scheduleCountAdjustments(any());
+        verify(followService, never()).recordUserRemoval(any());
         verify(eventPublisher, never()).publishEvent(any());
     }
 
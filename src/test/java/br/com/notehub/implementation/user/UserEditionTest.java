@@ -10,6 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.Optional;
@@ -31,6 +32,9 @@ public class UserEditionTest {
     @Mock
     private UserHistoryService historian;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private User user;
 
     private User updateUser(String name, boolean profilePrivate) {
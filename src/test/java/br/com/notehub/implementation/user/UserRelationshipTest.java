@@ -2,10 +2,14 @@ package br.com.notehub.implementation.user;
 
 import br.com.notehub.application.counter.Counter;
 import br.com.notehub.application.dto.notification.MessageNotification;
+import br.com.notehub.application.implementation.follow.FollowGraph;
 import br.com.notehub.application.implementation.follow.FollowServiceImpl;
-import br.com.notehub.domain.feed.FeedService;
 import br.com.notehub.domain.follow.Follow;
+import br.com.notehub.domain.follow.FollowGraphChange;
+import br.com.notehub.domain.follow.FollowGraphChangeRepository;
 import br.com.notehub.domain.follow.FollowRepository;
+import br.com.notehub.domain.follow.events.UserFollowedEvent;
+import br.com.notehub.domain.follow.events.UserUnfollowedEvent;
 import br.com.notehub.domain.notification.NotificationService;
 import br.com.notehub.domain.user.User;
 import br.com.notehub.domain.user.UserRepository;
@@ -17,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -42,6 +47,12 @@ public class UserRelationshipTest {
     @Mock
     private FollowRepository followRepository;
 
+    @Mock
+    private FollowGraph graph;
+
+    @Mock
+    private FollowGraphChangeRepository graphChanges;
+
     @Mock
     private NotificationService notifier;
 
@@ -49,7 +60,7 @@ public class UserRelationshipTest {
     private Counter counter;
 
     @Mock
-    private FeedService feeder;
+    private ApplicationEventPublisher eventPublisher;
 
     private User follower;
     private User following;
@@ -76,8 +87,11 @@ public class UserRelationshipTest {
         service.follow(follower.getId(), following.getUsername());
 
         verify(followRepository).save(any(Follow.class));
+        verify(graphChanges).save(argThat((FollowGraphChange change) ->
+                change.getFollowerId().equals(follower.getId()) && change.getFollowingId().equals(following.getId()) && change.isLinked()));
         verify(counter).updateFollowersAndFollowingCount(eq(follower), eq(following), eq(true));
         verify(notifier).notify(eq(follower), eq(following), eq(follower), eq(MessageNotification.of(follower)));
+        verify(eventPublisher).publishEvent(new UserFollowedEvent(follower.getId(), following.getId()));
     }
 
     @Test
@@ -89,8 +103,11 @@ public class UserRelationshipTest {
         service.unfollow(follower.getId(), following.getUsername());
 
         verify(followRepository).deleteByFollowerIdAndFollowingId(follower.getId(), following.getId());
+        verify(graphChanges).save(argThat((FollowGraphChange change) ->
+                change.getFollowerId().equals(follower.getId()) && change.getFollowingId().equals(following.getId()) && !change.isLinked()));
         verify(counter).updateFollowersAndFollowingCount(eq(follower), eq(following), eq(false));
         verify(notifier, never()).notify(any(), any(), any(), any());
+        verify(eventPublisher).publishEvent(new UserUnfollowedEvent(follower.getId(), following.getId()));
     }
 
     @Test
@@ -144,19 +161,12 @@ public class UserRelationshipTest {
         User u1 = createUser("a@mail.com", "a");
         User u2 = createUser("b@mail.com", "b");
 
-        List<UUID> ids = List.of(u1.getId(), u2.getId());
         Page<User> expected = new PageImpl<>(List.of(u1, u2));
         Pageable pageable = PageRequest.of(0, 10);
 
-        Page<Follow> followPage = new PageImpl<>(List.of(
-                new Follow(target, u1),
-                new Follow(target, u2)
-        ));
-
         when(userRepository.findById(requesting.getId())).thenReturn(Optional.of(requesting));
         when(userRepository.findByUsername(target.getUsername())).thenReturn(Optional.of(target));
-        when(followRepository.findByFollowerId(eq(target.getId()), any())).thenReturn(followPage);
-        when(userRepository.findAllByIdIn(eq(pageable), eq("q"), argThat(list -> new HashSet<>(list).containsAll(ids)))).thenReturn(expected);
+        when(userRepository.findAllFollowedBy(pageable, "q", target.getId())).thenReturn(expected);
 
         Page<User> result = service.getUserFollowing(pageable, "q", requesting.getId(), target.getUsername());
 
@@ -170,19 +180,12 @@ public class UserRelationshipTest {
         User u1 = createUser("a@mail.com", "a");
         User u2 = createUser("b@mail.com", "b");
 
-        List<UUID> ids = List.of(u1.getId(), u2.getId());
         Page<User> expected = new PageImpl<>(List.of(u1, u2));
         Pageable pageable = PageRequest.of(0, 10);
 
-        Page<Follow> followPage = new PageImpl<>(List.of(
-                new Follow(u1, target),
-                new Follow(u2, target)
-        ));
-
         when(userRepository.findById(requesting.getId())).thenReturn(Optional.of(requesting));
         when(userRepository.findByUsername(target.getUsername())).thenReturn(Optional.of(target));
-        when(followRepository.findByFollowingId(eq(target.getId()), any())).thenReturn(followPage);
-        when(userRepository.findAllByIdIn(eq(pageable), eq("q"), argThat(list -> new HashSet<>(list).containsAll(ids)))).thenReturn(expected);
+        when(userRepository.findAllFollowersOf(pageable, "q", target.getId())).thenReturn(expected);
 
         Page<User> result = service.getUserFollowers(pageable, "q", requesting.getId(), target.getUsername());
 
@@ -228,7 +231,7 @@ public class UserRelationshipTest {
 
         when(userRepository.findById(requesting.getId())).thenReturn(Optional.of(requesting));
         when(userRepository.findByUsername(target.getUsername())).thenReturn(Optional.of(target));
-        when(followRepository.existsByFollowerIdAndFollowingId(target.getId(), requesting.getId())).thenReturn(false);
+        when(graph.isMutual(requesting.getId(), target.getId())).thenReturn(false);
 
         assertThatThrownBy(() ->
                 service.getUserFollowing(pageable, "q", requesting.getId(), target.getUsername()))
@@ -1,10 +1,12 @@
 package br.com.notehub.implementation.user;
 
 import br.com.notehub.application.implementation.user.UserServiceImpl;
+import br.com.notehub.application.search.SearchIndex;
 import br.com.notehub.domain.history.UserHistoryService;
 import br.com.notehub.domain.user.Subscription;
 import br.com.notehub.domain.user.User;
 import br.com.notehub.domain.user.UserRepository;
+import br.com.notehub.domain.user.UserVersion;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -38,6 +41,9 @@ class UserRetrievalTest {
     @Mock
     private UserHistoryService historian;
 
+    @Mock
+    private SearchIndex searchIndex;
+
     private User user;
     private Pageable pageable;
 
@@ -125,4 +131,13 @@ class UserRetrievalTest {
         verify(repository).deleteAll(expired);
     }
 
+    @Test
+    void shouldChangeUserEtagForWritesWithinTheSameMillisecond() {
+        UUID id = UUID.randomUUID();
+        Instant at = Instant.parse("2026-10-17T12:00:00.123456Z");
+        UserVersion first = new UserVersion(id, true, at);
+        assertThat(new UserVersion(id, true, at.plusNanos(1000)).etag()).isNotEqualTo(first.etag());
+        assertThat(new UserVersion(id, true, at).etag()).isEqualTo(first.etag());
+    }
+
 }
\ No newline at end of file